@@ -0,0 +1,99 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: AuthenticateValidatorBenchmark
+ */
+
+import com.revquix.sm.application.guardrails.EmailValidator;
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+import com.revquix.sm.auth.guardrails.AuthenticateValidator;
+import com.revquix.sm.auth.guardrails.MobileNumberValidator;
+import com.revquix.sm.auth.guardrails.UsernameValidator;
+import com.revquix.sm.auth.properties.AuthorizationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the development authority check of AuthenticateValidator. Requests without an Origin
+ * header go through checkAllAuthoritiesContain, so the benchmark drives validateOrigins with
+ * such a request for both user and client logins. The user identity carries indexed role and scope
+ * sets and is checked with the AuthorityGraph masks; the client identity has no role set and takes the
+ * authority list comparison.
+ */
+@State(Scope.Benchmark)
+public class AuthenticateValidatorBenchmark {
+
+    private AuthenticateValidator authenticateValidator;
+    private MockHttpServletRequest request;
+    private Authentication userAuthentication;
+    private Authentication clientAuthentication;
+
+    @Setup
+    public void setup() {
+        AuthorizationProperties.JwtType jwtType = new AuthorizationProperties.JwtType();
+        jwtType.setRolesToAllow(Map.of(
+                "development", List.of("user.user"),
+                "clientDevelopment", List.of("scope.development")
+        ));
+        AuthorizationProperties authorizationProperties = new AuthorizationProperties();
+        authorizationProperties.setJwt(jwtType);
+        AuthorityGraph authorityGraph = JwtBenchmarkSupport.authorityGraph();
+        authenticateValidator = new AuthenticateValidator(
+                new UsernameValidator(),
+                new EmailValidator(),
+                new MobileNumberValidator(),
+                authorizationProperties,
+                authorityGraph
+        );
+        request = new MockHttpServletRequest("POST", "/v1/auth/token");
+        userAuthentication = JwtBenchmarkSupport.authentication(JwtBenchmarkSupport.userIdentity(authorityGraph));
+        clientAuthentication = JwtBenchmarkSupport.authentication(JwtBenchmarkSupport.clientIdentity(authorityGraph));
+    }
+
+    @Benchmark
+    public void validateUserAuthorities() {
+        authenticateValidator.validateOrigins(userAuthentication, request);
+    }
+
+    @Benchmark
+    public void validateClientAuthorities() {
+        authenticateValidator.validateOrigins(clientAuthentication, request);
+    }
+}
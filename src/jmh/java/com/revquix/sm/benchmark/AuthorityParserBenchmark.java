@@ -0,0 +1,124 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: AuthorityParserBenchmark
+ */
+
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+import com.revquix.sm.auth.model.Role;
+import com.revquix.sm.auth.payload.RolePayload;
+import com.revquix.sm.auth.payload.ScopePayload;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
+import com.revquix.sm.auth.properties.FetchRoleProperties;
+import com.revquix.sm.auth.properties.FetchScopeProperties;
+import com.revquix.sm.auth.utils.RolesParserUtil;
+import com.revquix.sm.auth.utils.ScopeParserUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the flattening of roles and scopes, including their internal authorities, that runs
+ * on every login before the token is issued, through the parser utilities and through the
+ * precomputed AuthorityGraph.
+ */
+@State(Scope.Benchmark)
+public class AuthorityParserBenchmark {
+
+    @Param({"2", "8"})
+    private int size;
+
+    private List<Role> roles;
+    private List<com.revquix.sm.auth.model.Scope> scopes;
+    private AuthorityGraph authorityGraph;
+
+    @Setup
+    public void setup() {
+        roles = IntStream.range(0, size)
+                .mapToObj(index -> Role
+                        .builder()
+                        .roleId("role-" + index)
+                        .role("user.role" + index)
+                        .internalRoles(List.of("user.user", "user.role" + index + ".read", "user.role" + index + ".write"))
+                        .build())
+                .toList();
+        scopes = IntStream.range(0, size)
+                .mapToObj(index -> com.revquix.sm.auth.model.Scope
+                        .builder()
+                        .scopeId("scope-" + index)
+                        .scope("scope.scope" + index)
+                        .internalScopes(List.of("scope.development", "scope.scope" + index + ".read", "scope.scope" + index + ".write"))
+                        .build())
+                .toList();
+        FetchRoleProperties fetchRoleProperties = new FetchRoleProperties();
+        roles.forEach(role -> fetchRoleProperties.data.put(role.getRoleId(), RolePayload
+                .builder()
+                .id(role.getRoleId())
+                .role(role.getRole())
+                .internalRoles(role.getInternalRoles())
+                .build()));
+        FetchScopeProperties fetchScopeProperties = new FetchScopeProperties();
+        scopes.forEach(scope -> fetchScopeProperties.data.put(scope.getScopeId(), ScopePayload
+                .builder()
+                .id(scope.getScopeId())
+                .scope(scope.getScope())
+                .internalScopes(scope.getInternalScopes())
+                .build()));
+        authorityGraph = new AuthorityGraph(fetchRoleProperties, fetchScopeProperties, 1024);
+    }
+
+    @Benchmark
+    public List<String> parseRoles() {
+        return RolesParserUtil.parseRoles(roles);
+    }
+
+    @Benchmark
+    public List<String> parseScopes() {
+        return ScopeParserUtil.parseScopes(scopes);
+    }
+
+    @Benchmark
+    public AuthoritySet graphRoles() {
+        return authorityGraph.roles(roles);
+    }
+
+    @Benchmark
+    public AuthoritySet graphScopes() {
+        return authorityGraph.scopes(scopes);
+    }
+}
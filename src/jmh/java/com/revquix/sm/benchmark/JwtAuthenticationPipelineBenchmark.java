@@ -0,0 +1,94 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtAuthenticationPipelineBenchmark
+ */
+
+import com.revquix.sm.application.utils.IpUtils;
+import com.revquix.sm.auth.authentication.AuthIdentity;
+import com.revquix.sm.auth.authentication.ClientPathMatcherIndex;
+import com.revquix.sm.auth.authentication.JwtTokenDecoder;
+import com.revquix.sm.auth.authentication.RevquixJwtTokenAuthenticator;
+import com.revquix.sm.auth.config.JwtConfiguration;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Compares the previous filter pipeline, which decoded the bearer token in JwtAuthenticationFilter
+ * and again inside RevquixJwtTokenAuthenticator, with the single-decode pipeline where the
+ * filter hands the validated Jwt to the authenticator.
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationPipelineBenchmark {
+
+    private JwtDecoder jwtDecoder;
+    private RevquixJwtTokenAuthenticator revquixJwtTokenAuthenticator;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private String token;
+
+    @Setup
+    public void setup() {
+        AuthenticationProperties authenticationProperties = JwtBenchmarkSupport.authenticationProperties();
+        JwtConfiguration jwtConfiguration = JwtBenchmarkSupport.jwtConfiguration(authenticationProperties);
+        jwtDecoder = jwtConfiguration.nimbusJwtDecoder();
+        token = JwtBenchmarkSupport.userAccessToken(jwtConfiguration.jwtEncoder());
+        request = new MockHttpServletRequest("GET", "/v1/profile");
+        request.setRemoteAddr(JwtBenchmarkSupport.REMOTE_ADDRESS);
+        response = new MockHttpServletResponse();
+        revquixJwtTokenAuthenticator = new RevquixJwtTokenAuthenticator(
+                new JwtTokenDecoder(jwtDecoder, JwtBenchmarkSupport.authorityGraph()),
+                authenticationProperties,
+                new ClientPathMatcherIndex(authenticationProperties, new StandardEnvironment()),
+                new IpUtils(request)
+        );
+    }
+
+    @Benchmark
+    public AuthIdentity doubleDecode() {
+        jwtDecoder.decode(token);
+        return revquixJwtTokenAuthenticator.authenticateToken(jwtDecoder.decode(token), response, request);
+    }
+
+    @Benchmark
+    public AuthIdentity singleDecode() {
+        return revquixJwtTokenAuthenticator.authenticateToken(jwtDecoder.decode(token), response, request);
+    }
+}
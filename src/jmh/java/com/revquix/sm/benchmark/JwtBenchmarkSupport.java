@@ -0,0 +1,247 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtBenchmarkSupport
+ */
+
+import com.revquix.sm.application.constants.EnvironmentConstants;
+import com.revquix.sm.application.constants.ServiceConstants;
+import com.revquix.sm.application.utils.IpUtils;
+import com.revquix.sm.auth.authentication.AuthIdentity;
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+import com.revquix.sm.auth.authentication.JwtTokenGenerator;
+import com.revquix.sm.auth.authentication.KeyProvider;
+import com.revquix.sm.auth.config.JwtConfiguration;
+import com.revquix.sm.auth.enums.AuthenticationType;
+import com.revquix.sm.auth.enums.ClientType;
+import com.revquix.sm.auth.model.Role;
+import com.revquix.sm.auth.model.Scope;
+import com.revquix.sm.auth.payload.RolePayload;
+import com.revquix.sm.auth.payload.ScopePayload;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import com.revquix.sm.auth.properties.FetchRoleProperties;
+import com.revquix.sm.auth.properties.FetchScopeProperties;
+import lombok.experimental.UtilityClass;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * JwtBenchmarkSupport wires the production JWT beans outside of Spring so that the
+ * benchmarks exercise the same keystore and encoder/decoder configuration as the service.
+ * The keystore coordinates are read from the same environment variables used by application.yml;
+ * JWT_KEY_STORE_PASSWORD and JWT_KEY_STORE_ALIAS have no default and must be set.
+ */
+@UtilityClass
+public class JwtBenchmarkSupport {
+
+    public static final String REMOTE_ADDRESS = "127.0.0.1";
+    public static final List<String> USER_ROLES = List.of("user.user");
+    public static final List<String> SCOPES = List.of("scope.development", "scope.read", "scope.write");
+    private static final List<String> SCOPE_IDS = List.of("development", "read", "write");
+
+    public static AuthenticationProperties authenticationProperties() {
+        AuthenticationProperties.KeyProvider keyProvider = new AuthenticationProperties.KeyProvider();
+        keyProvider.setKeyStorePath(env("JWT_KEY_STORE_PATH", "/keys/jwt-keystore.p12"));
+        keyProvider.setKeyStorePassword(requiredEnv("JWT_KEY_STORE_PASSWORD"));
+        keyProvider.setKeyAlias(requiredEnv("JWT_KEY_STORE_ALIAS"));
+
+        AuthenticationProperties.TokenData tokenData = new AuthenticationProperties.TokenData();
+        tokenData.setAccessTokenExpiryMinutes(16);
+        tokenData.setLongAccessTokenExpiryMinutes(70);
+        tokenData.setRefreshTokenExpiryDays(16);
+        tokenData.setIsRemoteAddressAuthentication(true);
+
+        AuthenticationProperties.JwtData jwtData = new AuthenticationProperties.JwtData();
+        jwtData.setKeyProvider(keyProvider);
+        jwtData.setTokenData(tokenData);
+
+        AuthenticationProperties.JwtPaths jwtPaths = new AuthenticationProperties.JwtPaths();
+        jwtPaths.setExcludePaths(List.of("/v1/auth/**", "/v1/user-auth/**", "/actuator/**"));
+        jwtPaths.setClientAuthenticationPaths(List.of("/v1/client-auth/**"));
+        AuthenticationProperties.ExcludedPaths excludedPaths = new AuthenticationProperties.ExcludedPaths();
+        excludedPaths.setJwtPaths(jwtPaths);
+
+        AuthenticationProperties authenticationProperties = new AuthenticationProperties();
+        authenticationProperties.setJwt(jwtData);
+        authenticationProperties.setExcludedPaths(excludedPaths);
+        return authenticationProperties;
+    }
+
+    public static JwtConfiguration jwtConfiguration(AuthenticationProperties authenticationProperties) {
+        return new JwtConfiguration(new KeyProvider(authenticationProperties), authenticationProperties);
+    }
+
+    public static String userAccessToken(JwtEncoder jwtEncoder) {
+        Instant now = Instant.now();
+        JwtClaimsSet jwtClaimsSet = JwtClaimsSet
+                .builder()
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                .subject(UUID.randomUUID().toString())
+                .issuer(ServiceConstants.REVQUIX)
+                .claim(ServiceConstants.AUTHORITIES, List.of("user.user", "scope.development", "scope.read", "scope.write"))
+                .claim(ServiceConstants.USER_ID, UUID.randomUUID().toString())
+                .claim(ServiceConstants.USERNAME, "benchmark")
+                .claim(ServiceConstants.EMAIL, "benchmark@revquix.com")
+                .claim(ServiceConstants.ROLES, USER_ROLES)
+                .claim(ServiceConstants.SCOPES, SCOPES)
+                .claim(ServiceConstants.CLIENT_ID, UUID.randomUUID().toString())
+                .claim(ServiceConstants.TOKEN_TYPE, ServiceConstants.ACCESS_TOKEN_TYPE)
+                .claim("environment", "benchmark")
+                .claim(ServiceConstants.REMOTE_ADDRESS, REMOTE_ADDRESS)
+                .claim(ServiceConstants.ORIGINS, List.of(ServiceConstants.UNIVERSAL_ORIGIN))
+                .claim(ServiceConstants.CLIENT_NAME, "Benchmark Client")
+                .claim(ServiceConstants.AUTHENTICATION_TYPE, AuthenticationType.USER_LOGIN.name())
+                .claim(ServiceConstants.CLIENT_TYPE, ClientType.API_TESTING.name())
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue();
+    }
+
+    public static String clientAccessToken(JwtEncoder jwtEncoder) {
+        Instant now = Instant.now();
+        JwtClaimsSet jwtClaimsSet = JwtClaimsSet
+                .builder()
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                .subject(UUID.randomUUID().toString())
+                .issuer(ServiceConstants.REVQUIX)
+                .claim(ServiceConstants.AUTHORITIES, SCOPES)
+                .claim(ServiceConstants.SCOPES, SCOPES)
+                .claim(ServiceConstants.CLIENT_ID, UUID.randomUUID().toString())
+                .claim(ServiceConstants.TOKEN_TYPE, ServiceConstants.ACCESS_TOKEN_TYPE)
+                .claim("environment", "benchmark")
+                .claim(ServiceConstants.REMOTE_ADDRESS, REMOTE_ADDRESS)
+                .claim(ServiceConstants.ORIGINS, List.of(ServiceConstants.UNIVERSAL_ORIGIN))
+                .claim(ServiceConstants.CLIENT_NAME, "Benchmark Client")
+                .claim(ServiceConstants.AUTHENTICATION_TYPE, AuthenticationType.CLIENT_LOGIN.name())
+                .claim(ServiceConstants.CLIENT_TYPE, ClientType.API_TESTING.name())
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue();
+    }
+
+    /**
+     * Builds an AuthorityGraph whose single role and three scopes match USER_ROLES and SCOPES.
+     */
+    public static AuthorityGraph authorityGraph() {
+        FetchRoleProperties fetchRoleProperties = new FetchRoleProperties();
+        fetchRoleProperties.data.put("user", RolePayload.builder().id("user").role(USER_ROLES.get(0)).build());
+        FetchScopeProperties fetchScopeProperties = new FetchScopeProperties();
+        for (int index = 0; index < SCOPE_IDS.size(); index++) {
+            fetchScopeProperties.data.put(SCOPE_IDS.get(index), ScopePayload.builder().id(SCOPE_IDS.get(index)).scope(SCOPES.get(index)).build());
+        }
+        return new AuthorityGraph(fetchRoleProperties, fetchScopeProperties, 1024);
+    }
+
+    public static AuthIdentity userIdentity(AuthorityGraph authorityGraph) {
+        return AuthIdentity
+                .builder()
+                .userId(UUID.randomUUID().toString())
+                .clientId(UUID.randomUUID().toString())
+                .username("benchmark")
+                .email("benchmark@revquix.com")
+                .clientName("Benchmark Client")
+                .roles(USER_ROLES)
+                .scopes(SCOPES)
+                .origins(List.of(ServiceConstants.UNIVERSAL_ORIGIN))
+                .clientType(ClientType.API_TESTING)
+                .authorities(authorities(USER_ROLES, SCOPES))
+                .authenticationType(AuthenticationType.USER_LOGIN)
+                .remoteAddress(REMOTE_ADDRESS)
+                .roleSet(authorityGraph.roles(List.of(Role.builder().roleId("user").role(USER_ROLES.get(0)).build())))
+                .scopeSet(scopeSet(authorityGraph))
+                .build();
+    }
+
+    public static AuthIdentity clientIdentity(AuthorityGraph authorityGraph) {
+        return AuthIdentity
+                .builder()
+                .clientId(UUID.randomUUID().toString())
+                .clientName("Benchmark Client")
+                .scopes(SCOPES)
+                .origins(List.of(ServiceConstants.UNIVERSAL_ORIGIN))
+                .clientType(ClientType.API_TESTING)
+                .authorities(authorities(List.of(), SCOPES))
+                .authenticationType(AuthenticationType.CLIENT_LOGIN)
+                .remoteAddress(REMOTE_ADDRESS)
+                .scopeSet(scopeSet(authorityGraph))
+                .build();
+    }
+
+    public static UsernamePasswordAuthenticationToken authentication(AuthIdentity authIdentity) {
+        return new UsernamePasswordAuthenticationToken(authIdentity, null, authIdentity.getAuthorities());
+    }
+
+    public static JwtTokenGenerator jwtTokenGenerator(JwtEncoder jwtEncoder, AuthenticationProperties authenticationProperties, IpUtils ipUtils, AuthorityGraph authorityGraph) {
+        MockEnvironment environment = new MockEnvironment().withProperty(EnvironmentConstants.ACTIVE_PROFILE, "benchmark");
+        return new JwtTokenGenerator(jwtEncoder, authenticationProperties, environment, ipUtils, authorityGraph);
+    }
+
+    private static AuthoritySet scopeSet(AuthorityGraph authorityGraph) {
+        List<Scope> scopes = SCOPE_IDS
+                .stream()
+                .map(scopeId -> Scope.builder().scopeId(scopeId).build())
+                .toList();
+        return authorityGraph.scopes(scopes);
+    }
+
+    private static List<SimpleGrantedAuthority> authorities(List<String> roles, List<String> scopes) {
+        return Stream
+                .concat(roles.stream(), scopes.stream())
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return Objects.isNull(value) ? defaultValue : value;
+    }
+
+    private static String requiredEnv(String name) {
+        String value = System.getenv(name);
+        if (Objects.isNull(value) || value.isBlank())
+            throw new IllegalStateException(name + " is not set; export JWT_KEY_STORE_PASSWORD and JWT_KEY_STORE_ALIAS for the bundled jwt-keystore.p12 before running the benchmarks");
+        return value;
+    }
+}
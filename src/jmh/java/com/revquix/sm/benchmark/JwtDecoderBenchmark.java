@@ -0,0 +1,77 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtDecoderBenchmark
+ */
+
+import com.revquix.sm.auth.authentication.CachingJwtDecoder;
+import com.revquix.sm.auth.config.JwtConfiguration;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Measures bearer token decoding with the NimbusJwtDecoder configured by JwtConfiguration,
+ * which performs the signature check and claim validation on every call, against the
+ * CachingJwtDecoder that serves repeated tokens from memory.
+ */
+@State(Scope.Benchmark)
+public class JwtDecoderBenchmark {
+
+    private JwtDecoder nimbusJwtDecoder;
+    private JwtDecoder cachingJwtDecoder;
+    private String token;
+
+    @Setup
+    public void setup() {
+        AuthenticationProperties authenticationProperties = JwtBenchmarkSupport.authenticationProperties();
+        JwtConfiguration jwtConfiguration = JwtBenchmarkSupport.jwtConfiguration(authenticationProperties);
+        nimbusJwtDecoder = jwtConfiguration.nimbusJwtDecoder();
+        cachingJwtDecoder = new CachingJwtDecoder(nimbusJwtDecoder, authenticationProperties.getJwt().getTokenCache().getMaximumSize());
+        token = JwtBenchmarkSupport.userAccessToken(jwtConfiguration.jwtEncoder());
+    }
+
+    @Benchmark
+    public Jwt nimbusDecode() {
+        return nimbusJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachingDecode() {
+        return cachingJwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtSigningAlgorithmBenchmark
+ */
+
+import com.nimbusds.jose.jwk.JWK;
+import com.revquix.sm.auth.authentication.JwkFactory;
+import com.revquix.sm.auth.authentication.JwtKeyring;
+import com.revquix.sm.auth.enums.JwtKeyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+
+/**
+ * Compares sign and verify throughput of RS256, ES256 and EdDSA for the same access token claims.
+ * Key pairs are generated in memory so every key type can be measured without a keystore per type,
+ * and the encoder and decoder are built through JwkFactory exactly as JwtConfiguration builds them.
+ */
+@State(Scope.Benchmark)
+public class JwtSigningAlgorithmBenchmark {
+
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String EC_CURVE = "secp256r1";
+
+    @Param({"RSA", "EC", "ED25519"})
+    private JwtKeyType keyType;
+
+    private JwtEncoder jwtEncoder;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        KeyPair keyPair = keyPair(keyType);
+        JWK jwk = JwkFactory.create(keyType, keyPair.getPublic(), keyPair.getPrivate(), null);
+        JwtKeyring jwtKeyring = new JwtKeyring(List.of(JwkFactory.signingKey(jwk, null, null)));
+        jwtEncoder = JwkFactory.jwtEncoder(jwtKeyring);
+        jwtDecoder = JwkFactory.jwtDecoder(jwtKeyring);
+        token = JwtBenchmarkSupport.userAccessToken(jwtEncoder);
+    }
+
+    @Benchmark
+    public String sign() {
+        return JwtBenchmarkSupport.userAccessToken(jwtEncoder);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return jwtDecoder.decode(token);
+    }
+
+    private static KeyPair keyPair(JwtKeyType keyType) throws GeneralSecurityException {
+        return switch (keyType) {
+            case RSA -> {
+                KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+                keyPairGenerator.initialize(RSA_KEY_SIZE);
+                yield keyPairGenerator.generateKeyPair();
+            }
+            case EC -> {
+                KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+                keyPairGenerator.initialize(new ECGenParameterSpec(EC_CURVE));
+                yield keyPairGenerator.generateKeyPair();
+            }
+            case ED25519 -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        };
+    }
+}
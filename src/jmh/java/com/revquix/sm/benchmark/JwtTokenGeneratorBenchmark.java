@@ -0,0 +1,90 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.benchmark;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtTokenGeneratorBenchmark
+ */
+
+import com.revquix.sm.application.constants.ServiceConstants;
+import com.revquix.sm.application.utils.IpUtils;
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+import com.revquix.sm.auth.authentication.JwtTokenGenerator;
+import com.revquix.sm.auth.config.JwtConfiguration;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Measures access token issuance through JwtTokenGenerator, which is dominated by the
+ * signature produced by the keystore backed JwtEncoder, for both user and client logins and for
+ * the standard and compact token profiles.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean compactTokenProfile;
+
+    private JwtTokenGenerator jwtTokenGenerator;
+    private MockHttpServletRequest request;
+    private Authentication userAuthentication;
+    private Authentication clientAuthentication;
+
+    @Setup
+    public void setup() {
+        AuthenticationProperties authenticationProperties = JwtBenchmarkSupport.authenticationProperties();
+        authenticationProperties.getJwt().setCompactTokenProfile(compactTokenProfile);
+        AuthorityGraph authorityGraph = JwtBenchmarkSupport.authorityGraph();
+        JwtConfiguration jwtConfiguration = JwtBenchmarkSupport.jwtConfiguration(authenticationProperties);
+        request = new MockHttpServletRequest("POST", "/v1/auth/token");
+        request.setRemoteAddr(JwtBenchmarkSupport.REMOTE_ADDRESS);
+        request.addHeader(ServiceConstants.ORIGIN, "https://" + ServiceConstants.SUPER_DOMAIN);
+        jwtTokenGenerator = JwtBenchmarkSupport.jwtTokenGenerator(jwtConfiguration.jwtEncoder(), authenticationProperties, new IpUtils(request), authorityGraph);
+        userAuthentication = JwtBenchmarkSupport.authentication(JwtBenchmarkSupport.userIdentity(authorityGraph));
+        clientAuthentication = JwtBenchmarkSupport.authentication(JwtBenchmarkSupport.clientIdentity(authorityGraph));
+    }
+
+    @Benchmark
+    public String generateUserAccessToken() {
+        return jwtTokenGenerator.generateAccessToken(userAuthentication, request);
+    }
+
+    @Benchmark
+    public String generateClientAccessToken() {
+        return jwtTokenGenerator.generateAccessToken(clientAuthentication, request);
+    }
+}
@@ -35,6 +35,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Developer: Rohit Parihar
@@ -53,6 +54,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 )
 @EnableFeignClients(basePackages = "com.revquix.sm")
 @EnableRetry
+@EnableScheduling
 public class RevquixSmApplication {
 
     public static void main(String[] args) {
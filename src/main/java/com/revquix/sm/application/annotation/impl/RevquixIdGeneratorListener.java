@@ -41,38 +41,47 @@ import com.revquix.sm.application.utils.SequenceEntityContextBridge;
 import jakarta.persistence.PrePersist;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 
 public class RevquixIdGeneratorListener {
 
+    /* The @RevquixId fields of each entity class, discovered once per class instead of on every insert. */
+    private static final ClassValue<List<IdField>> ID_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<IdField> computeValue(Class<?> clazz) {
+            List<IdField> idFields = new ArrayList<>();
+            for (Field field : clazz.getDeclaredFields()) {
+                RevquixId annotation = field.getAnnotation(RevquixId.class);
+                if (annotation == null) continue;
+                field.setAccessible(true);
+                idFields.add(new IdField(field, annotation.sequence(), annotation.prefix() + "%0" + annotation.length() + "d"));
+            }
+            return List.copyOf(idFields);
+        }
+    };
+
     /* This method is called before an entity is persisted.
        It checks for fields annotated with @GeneratedCustomId and generates a custom ID if the field is null.
      */
     @PrePersist
     public void generateCustomId(Object entity) {
-        Class<?> clazz = entity.getClass();
-
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(RevquixId.class)) {
-                try {
-                    field.setAccessible(true);
-                    Object currentValue = field.get(entity);
-                    if (currentValue != null) continue;
+        for (IdField idField : ID_FIELDS.get(entity.getClass())) {
+            try {
+                Object currentValue = idField.field().get(entity);
+                if (currentValue != null) continue;
 
-                    RevquixId annotation = field.getAnnotation(RevquixId.class);
-                    String prefix = annotation.prefix();
-                    String sequence = annotation.sequence();
-                    int length = annotation.length();
+                long nextVal = SequenceEntityContextBridge.getSequenceAllocator()
+                        .next(idField.sequence());
 
-                    Long nextVal = SequenceEntityContextBridge.getSequenceService()
-                            .getNextSequenceValue(sequence);
+                idField.field().set(entity, String.format(idField.format(), nextVal));
 
-                    String formatted = String.format("%s%0" + length + "d", prefix, nextVal);
-                    field.set(entity, formatted);
-
-                } catch (IllegalAccessException e) {
-                    throw new InternalServerException(ErrorData.FAILED_TO_GENERATE_SEQUENCE);
-                }
+            } catch (IllegalAccessException e) {
+                throw new InternalServerException(ErrorData.FAILED_TO_GENERATE_SEQUENCE);
             }
         }
     }
+
+    private record IdField(Field field, String sequence, String format) {
+    }
 }
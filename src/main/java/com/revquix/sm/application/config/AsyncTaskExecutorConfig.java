@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -67,10 +68,19 @@ public class AsyncTaskExecutorConfig {
     @Value("${async.executor.await-termination-seconds:20}")
     private int awaitTerminationSeconds;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${async.executor.virtual-concurrency-limit:1000}")
+    private int virtualConcurrencyLimit;
+
     private ThreadPoolTaskExecutor taskExecutor;
+    private SimpleAsyncTaskExecutor virtualTaskExecutor;
 
     @Bean(name = "eventTaskExecutor")
     public Executor eventTaskExecutor() {
+        if (virtualThreadsEnabled) return virtualEventTaskExecutor();
+
         log.info("Creating EventTaskExecutor with corePoolSize: {}, maxPoolSize: {}, queueCapacity: {}",
                    corePoolSize, maxPoolSize, queueCapacity);
 
@@ -97,11 +107,34 @@ public class AsyncTaskExecutorConfig {
         return taskExecutor;
     }
 
+    /**
+     * Creates a virtual-thread-per-task executor used when spring.threads.virtual.enabled is set.
+     * The concurrency limit replaces the pool and queue sizing as backpressure: once reached,
+     * submitting threads block until a running task completes.
+     */
+    private Executor virtualEventTaskExecutor() {
+        log.info("Creating virtual thread EventTaskExecutor with concurrencyLimit: {}", virtualConcurrencyLimit);
+
+        virtualTaskExecutor = new SimpleAsyncTaskExecutor("event-async-");
+        virtualTaskExecutor.setVirtualThreads(true);
+        virtualTaskExecutor.setConcurrencyLimit(virtualConcurrencyLimit);
+
+        // Wait for running tasks on close, matching the graceful shutdown of the pooled executor
+        virtualTaskExecutor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+
+        log.info("Virtual thread EventTaskExecutor initialized successfully");
+        return virtualTaskExecutor;
+    }
+
     @PreDestroy
     public void destroy() {
         if (taskExecutor != null) {
             log.info("Shutting down EventTaskExecutor gracefully");
             taskExecutor.shutdown();
         }
+        if (virtualTaskExecutor != null) {
+            log.info("Shutting down virtual thread EventTaskExecutor gracefully");
+            virtualTaskExecutor.close();
+        }
     }
 }
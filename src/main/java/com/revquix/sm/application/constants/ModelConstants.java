@@ -51,6 +51,7 @@ public class ModelConstants {
     public static final String SCOPE_TABLE = "scope";
     public static final String LOGIN_HISTORY = "login_history";
     public static final String OTP_TABLE = "otp";
+    public static final String MAIL_OUTBOX_TABLE = "mail_outbox";
     public static final String PROFILE = "profile";
     public static final String PROFILE_SCHEMA = "profile";
     public static final String PROFILE_SEQUENCE = "profile.profile_sequence";
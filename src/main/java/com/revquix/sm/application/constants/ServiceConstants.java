@@ -67,6 +67,9 @@ public class ServiceConstants {
     public static final String AUTHENTICATION_TYPE = "authenticationType";
     public static final String CLIENT_NAME = "clientName";
     public static final String CLIENT_TYPE = "clientType";
+    public static final String AUTHORITY_VERSION = "av";
+    public static final String ROLE_MASK = "rm";
+    public static final String SCOPE_MASK = "sm";
     public static final String ORIGIN = "Origin";
     public static final String SUPER_DOMAIN = "revquix.com";
     public static final String PROCESSING_TIME = "Processing Time ({}) -> {}ms";
@@ -34,6 +34,7 @@ package com.revquix.sm.application.dao;
   File: EntityPersistentService
  */
 
+import com.revquix.sm.application.payload.record.SequenceBlock;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
@@ -54,4 +55,19 @@ public class SequenceGeneratorDao {
         log.info("SequenceGeneratorDao::getNextSequenceValue -> Sequence Generated for {} with value {} ", sequenceName, nextSequence);
         return nextSequence;
     }
+
+    /**
+     * Reserves the next block of a sequence in one round trip: nextval and the sequence's increment,
+     * which is the number of values the call reserved.
+     */
+    public SequenceBlock getNextSequenceBlock(String sequenceName) {
+        log.info("SequenceGeneratorDao::getNextSequenceBlock -> Reserving sequence block for {}", sequenceName);
+        Object[] row = (Object[]) entityManager
+                .createNativeQuery("SELECT nextval(CAST(:sequence AS regclass)), s.seqincrement FROM pg_sequence s WHERE s.seqrelid = CAST(:sequence AS regclass)")
+                .setParameter("sequence", sequenceName)
+                .getSingleResult();
+        SequenceBlock sequenceBlock = new SequenceBlock(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        log.info("SequenceGeneratorDao::getNextSequenceBlock -> Sequence block reserved for {} starting at {} of size {}", sequenceName, sequenceBlock.first(), sequenceBlock.size());
+        return sequenceBlock;
+    }
 }
@@ -32,6 +32,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
+
 /**
  * 
  * Developer: Rohit Parihar
@@ -56,4 +58,5 @@ public class BaseException extends RuntimeException {
     private Throwable cause;
     private String localizedMessage;
     private HttpStatus httpStatus;
+    private Duration retryAfter;
 }
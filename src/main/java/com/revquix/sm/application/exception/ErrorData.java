@@ -119,7 +119,13 @@ public enum ErrorData {
     FAILED_TO_GENERATE_SEQUENCE("1087", "Failed to generate the Sequence"),
     FAILED_TO_SEND_MAIL_API_ERROR("1088", "Zepto mail API error while sending the mail"),
     EXCEPTION_WHILE_FETCHING_PRIVATE_KEY("1089", "Exception occurred while fetching private key"),
-    EXCEPTION_WHILE_FETCHING_PUBLIC_KEY("1090", "Exception occurred while fetching public key"),;
+    EXCEPTION_WHILE_FETCHING_PUBLIC_KEY("1090", "Exception occurred while fetching public key"),
+    PASSWORD_HASHING_BUSY("1091", "Too many logins are being processed right now, please retry shortly"),
+    UNSUPPORTED_JWT_KEY_TYPE("1092", "The configured JWT signing key is not a supported RSA, P-256 or Ed25519 key"),
+    DUPLICATE_JWT_KEY_ID("1093", "The JWT keyring contains more than one key with the same key id"),
+    NO_ACTIVE_JWT_SIGNING_KEY("1094", "No key of the JWT keyring is active for signing"),
+    TOKEN_REVOKED("1095", "Token has been revoked, please login again"),
+    TOO_MANY_REQUESTS("1096", "Too many requests, please retry after some time"),;
 
     private static final String PREFIX = "SANA-ERROR-";
 
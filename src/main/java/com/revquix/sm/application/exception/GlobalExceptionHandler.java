@@ -32,12 +32,15 @@ import com.revquix.sm.application.utils.ErrorResponseGeneratorUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Objects;
+
 /**
  * Developer: Rohit Parihar
  * Project: bloggios-matching
@@ -76,6 +79,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ExceptionResponse> badRequestException(AuthenticationException exception) {
         log.error("AuthenticationException Occurred >> {}", exception.toString());
         ExceptionResponse exceptionResponse = ErrorResponseGeneratorUtil.generate(exception);
+        if (Objects.nonNull(exception.getRetryAfter()))
+            return ResponseEntity
+                    .status(exception.getHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                    .body(exceptionResponse);
         return new ResponseEntity<>(
                 exceptionResponse,
                 exception.getHttpStatus()
@@ -35,8 +35,10 @@ package com.revquix.sm.application.init;
  */
 
 import com.revquix.sm.application.constants.ServiceConstants;
+import com.revquix.sm.auth.processor.InitRefreshTokenJtiProcessor;
 import com.revquix.sm.auth.processor.InitRoleProcessor;
 import com.revquix.sm.auth.processor.InitScopeProcessor;
+import com.revquix.sm.auth.processor.InitUserAuthIndexProcessor;
 import com.revquix.sm.auth.processor.SuperClientGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,10 +58,13 @@ public class ApplicationInitializer implements ApplicationRunner {
     private final InitRoleProcessor initRoleProcessor;
     private final InitScopeProcessor initScopeProcessor;
     private final SuperClientGenerator superClientGenerator;
+    private final InitUserAuthIndexProcessor initUserAuthIndexProcessor;
+    private final InitRefreshTokenJtiProcessor initRefreshTokenJtiProcessor;
 
     /**
      * This method is executed after the application context is loaded.
-     * It initializes roles, scopes, and generates a super client.
+     * It initializes roles, scopes, generates a super client and creates the login lookup indexes
+     * and enforces unique refresh token jti values.
      *
      * @param args the application arguments
      * @throws Exception if any error occurs during processing
@@ -71,6 +76,8 @@ public class ApplicationInitializer implements ApplicationRunner {
         initRoleProcessor.process();
         initScopeProcessor.process();
         superClientGenerator.process();
+        initUserAuthIndexProcessor.process();
+        initRefreshTokenJtiProcessor.process();
         log.info(ServiceConstants.PROCESSING_TIME, "Bloggios Application Runner", System.currentTimeMillis() - startTime);
     }
 }
@@ -0,0 +1,171 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: ConcurrentIndexBuilder
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * ConcurrentIndexBuilder creates indexes that Hibernate cannot declare, with CREATE INDEX CONCURRENTLY so
+ * the table stays writable while an index is built on an existing deployment. Builds run on a dedicated
+ * auto-commit connection, since CONCURRENTLY cannot run in a transaction block and the pool hands out
+ * connections with auto-commit disabled.
+ * <p>
+ * Replicas that start together serialize on a session advisory lock named after the index, so one of them
+ * never mistakes another's build in progress for a failed one. The lock is polled with pg_try_advisory_lock
+ * rather than awaited: a session blocked in pg_advisory_lock keeps a snapshot open, and the concurrent
+ * build of the lock holder would wait for that snapshot to go away.
+ */
+@Component
+@Slf4j
+public class ConcurrentIndexBuilder {
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext(?))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext(?))";
+    private static final String SELECT_INDEX_VALID = "SELECT index_entry.indisvalid FROM pg_index index_entry" +
+            " JOIN pg_class relation ON relation.oid = index_entry.indexrelid" +
+            " JOIN pg_namespace namespace ON namespace.oid = relation.relnamespace" +
+            " WHERE namespace.nspname = ? AND relation.relname = ?";
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final DataSource dataSource;
+    private final Duration lockTimeout;
+
+    public ConcurrentIndexBuilder(DataSource dataSource,
+                                  @Value("${concurrent-index.lock-timeout:PT30M}") Duration lockTimeout) {
+        this.dataSource = dataSource;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * Runs the given work on an auto-commit connection while holding the advisory lock for the index.
+     *
+     * @param index The name of the index the work builds or drops.
+     * @param work  The statements to run once the lock is held.
+     * @throws SQLException if the lock cannot be taken within concurrent-index.lock-timeout or the work fails.
+     */
+    public void withIndexLock(String index, IndexWork work) throws SQLException {
+        String lockName = ModelConstants.AUTH_SCHEMA + "." + index;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            acquire(connection, lockName);
+            try {
+                work.run(connection);
+            } finally {
+                execute(connection, UNLOCK, lockName);
+                connection.setAutoCommit(false);
+            }
+        }
+    }
+
+    /**
+     * Creates an index concurrently if it does not exist yet. Must be called inside {@link #withIndexLock},
+     * so an index that is not valid here is known to be left over from a failed build and is rebuilt.
+     *
+     * @param connection The connection handed to the {@link IndexWork}.
+     * @param index      The name of the index, created in the auth schema.
+     * @param definition What follows the index name, e.g. "ON auth.user_auth (lower(email))".
+     * @param unique     Whether the index is unique.
+     */
+    public void createIndex(Connection connection, String index, String definition, boolean unique) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (Boolean.FALSE.equals(isValid(connection, index))) {
+                log.warn("{} >> createIndex -> Index {} is invalid, rebuilding it", getClass().getSimpleName(), index);
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + ModelConstants.AUTH_SCHEMA + "." + index);
+            }
+            statement.execute("CREATE " + (unique ? "UNIQUE " : "") + "INDEX CONCURRENTLY IF NOT EXISTS " + index + " " + definition);
+        }
+        log.info("{} >> createIndex -> Index {} is present", getClass().getSimpleName(), index);
+    }
+
+    /**
+     * Drops an index concurrently if it exists. Must be called inside {@link #withIndexLock}.
+     */
+    public void dropIndex(Connection connection, String index) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + ModelConstants.AUTH_SCHEMA + "." + index);
+        }
+        log.info("{} >> dropIndex -> Index {} is absent", getClass().getSimpleName(), index);
+    }
+
+    private Boolean isValid(Connection connection, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_INDEX_VALID)) {
+            statement.setString(1, ModelConstants.AUTH_SCHEMA);
+            statement.setString(2, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private void acquire(Connection connection, String lockName) throws SQLException {
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+        while (!execute(connection, TRY_LOCK, lockName)) {
+            if (System.nanoTime() > deadline)
+                throw new SQLException("Timed out waiting for the index lock " + lockName);
+            log.info("{} >> acquire -> Waiting for another instance to finish {}", getClass().getSimpleName(), lockName);
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for the index lock " + lockName, exception);
+            }
+        }
+    }
+
+    private static boolean execute(Connection connection, String sql, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IndexWork {
+        void run(Connection connection) throws SQLException;
+    }
+}
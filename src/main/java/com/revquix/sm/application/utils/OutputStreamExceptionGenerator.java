@@ -36,9 +36,11 @@ import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * Developer: Rohit Parihar
@@ -67,4 +69,14 @@ public class OutputStreamExceptionGenerator {
         OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(httpStatus, exceptionResponse, httpServletResponse));
         log.error("ExceptionResponseGenerator -> {}", exceptionResponse.toString());
     }
+
+    /**
+     * Sends the exception response with a Retry-After header, rounded up to whole seconds so a client
+     * honouring it does not retry before the rejected request would be allowed.
+     */
+    public static void generateExceptionResponse(ErrorData errorData, HttpStatus httpStatus, HttpServletResponse httpServletResponse, Duration retryAfter) {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        generateExceptionResponse(errorData, httpStatus, httpServletResponse);
+    }
 }
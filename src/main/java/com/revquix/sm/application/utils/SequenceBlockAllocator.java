@@ -0,0 +1,113 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.application.utils;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: SequenceBlockAllocator
+ */
+
+import com.revquix.sm.application.dao.SequenceGeneratorDao;
+import com.revquix.sm.application.payload.record.SequenceBlock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out sequence values from blocks reserved in the database (pooled-lo). Each call to nextval
+ * reserves as many values as the sequence's INCREMENT BY, and those values are then served from
+ * memory, so only one insert per block pays a round trip. Values left in a block when the
+ * application stops are never used, which leaves gaps in the ids but never duplicates. A sequence
+ * with INCREMENT BY 1 behaves exactly like calling nextval for every insert.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceBlockAllocator {
+
+    private final SequenceGeneratorDao sequenceGeneratorDao;
+    private final Map<String, Allocation> allocations = new ConcurrentHashMap<>();
+
+    public long next(String sequenceName) {
+        return allocations.computeIfAbsent(sequenceName, Allocation::new).next();
+    }
+
+    private final class Allocation {
+
+        private final String sequenceName;
+        private final ReentrantLock refillLock = new ReentrantLock();
+        private volatile Block block = Block.EXHAUSTED;
+
+        private Allocation(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        private long next() {
+            while (true) {
+                Block current = block;
+                long value = current.next.getAndIncrement();
+                if (value < current.limit) return value;
+                refill(current);
+            }
+        }
+
+        /*
+         * Only the thread that finds the exhausted block still installed reserves a new one; threads
+         * that were waiting on the lock retry against the block it installed. A ReentrantLock rather than
+         * synchronized, so a virtual thread waiting on the nextval round trip does not pin its carrier.
+         */
+        private void refill(Block exhausted) {
+            refillLock.lock();
+            try {
+                if (block != exhausted) return;
+                SequenceBlock sequenceBlock = sequenceGeneratorDao.getNextSequenceBlock(sequenceName);
+                block = new Block(sequenceBlock.first(), sequenceBlock.first() + Math.max(1, sequenceBlock.size()));
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    private static final class Block {
+
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(long first, long limit) {
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
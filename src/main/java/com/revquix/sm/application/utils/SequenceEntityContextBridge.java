@@ -34,7 +34,6 @@ package com.revquix.sm.application.utils;
   File: SpringContextBridge
  */
 
-import com.revquix.sm.application.dao.SequenceGeneratorDao;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -46,24 +45,24 @@ import org.springframework.stereotype.Component;
 @Component
 public class SequenceEntityContextBridge {
 
-    private static SequenceGeneratorDao sequenceService;
+    private static SequenceBlockAllocator sequenceAllocator;
 
     /**
-     * Autowired constructor to inject the EntityPersistentService dependency.
-     * This allows static access to the service throughout the application.
+     * Autowired constructor to inject the SequenceBlockAllocator dependency.
+     * This allows static access to the allocator throughout the application.
      */
     @Autowired
-    public SequenceEntityContextBridge(SequenceGeneratorDao injectedService) {
-        SequenceEntityContextBridge.sequenceService = injectedService;
+    public SequenceEntityContextBridge(SequenceBlockAllocator injectedAllocator) {
+        SequenceEntityContextBridge.sequenceAllocator = injectedAllocator;
     }
 
     /**
-     * Static method to retrieve the EntityPersistentService instance.
-     * This can be used in non-Spring managed classes to access the service.
+     * Static method to retrieve the SequenceBlockAllocator instance.
+     * This can be used in non-Spring managed classes to access the allocator.
      *
-     * @return the EntityPersistentService instance
+     * @return the SequenceBlockAllocator instance
      */
-    public static SequenceGeneratorDao getSequenceService() {
-        return sequenceService;
+    public static SequenceBlockAllocator getSequenceAllocator() {
+        return sequenceAllocator;
     }
 }
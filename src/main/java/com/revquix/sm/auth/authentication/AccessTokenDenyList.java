@@ -0,0 +1,177 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: AccessTokenDenyList
+ */
+
+import com.revquix.sm.application.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * AccessTokenDenyList revokes access tokens before they expire. A revoked jti is stored in Redis
+ * with a TTL equal to the remaining lifetime of the token and published on a pub/sub channel, and
+ * every node mirrors the revoked jtis into an in-memory Bloom filter. isRevoked answers from the
+ * filter for the common not revoked case and only asks Redis when the filter reports a possible hit,
+ * treating a failed lookup as revoked. The filter is rebuilt from Redis on startup and periodically,
+ * which drops expired jtis and recovers revocations missed while the subscription was down.
+ */
+@Component
+@Slf4j
+public class AccessTokenDenyList implements MessageListener {
+
+    private static final String KEY_PREFIX = "revoked-access-token:";
+    private static final String CHANNEL = "revoked-access-tokens";
+    private static final String REVOKED = "1";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Counter lookupCounter;
+    private final Counter falsePositiveCounter;
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;
+
+    public AccessTokenDenyList(StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${token-revocation.enabled:true}") boolean enabled,
+                               @Value("${token-revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${token-revocation.false-positive-probability:0.001}") double falsePositiveProbability) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.lookupCounter = Counter.builder("token.revocation.lookup").description("Deny-list lookups in Redis after a Bloom filter hit").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("token.revocation.false.positive").description("Bloom filter hits for tokens that were not revoked").register(meterRegistry);
+        this.bloomFilter = newBloomFilter();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) return;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * Revokes the access token with the given jti until it expires. Tokens that already expired are ignored.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (!enabled || Objects.isNull(jti) || Objects.isNull(expiresAt)) return;
+        Duration timeToLive = Duration.between(Instant.now(), expiresAt);
+        if (timeToLive.isNegative() || timeToLive.isZero()) return;
+        log.info("{} >> revoke -> jti: {}, ttl: {}", getClass().getSimpleName(), jti, timeToLive);
+        stringRedisTemplate.opsForValue().set(key(jti), REVOKED, timeToLive);
+        mirror(jti);
+        stringRedisTemplate.convertAndSend(CHANNEL, jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!enabled || Objects.isNull(jti) || !bloomFilter.mightContain(jti)) return false;
+        lookupCounter.increment();
+        try {
+            boolean revoked = Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(jti)));
+            if (!revoked) falsePositiveCounter.increment();
+            return revoked;
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> isRevoked -> Deny-list lookup failed for jti: {}, rejecting token", getClass().getSimpleName(), jti, exception);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        mirror(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rebuilds the Bloom filter from the jtis currently held in Redis and swaps it in. Revocations
+     * received while scanning are added to both filters so none is lost by the swap.
+     */
+    @Scheduled(initialDelayString = "${token-revocation.rebuild-interval:PT10M}", fixedDelayString = "${token-revocation.rebuild-interval:PT10M}")
+    public void rebuild() {
+        if (!enabled) return;
+        BloomFilter rebuilt = newBloomFilter();
+        rebuildingFilter = rebuilt;
+        long count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                rebuilt.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+            bloomFilter = rebuilt;
+            log.info("{} >> rebuild -> Deny-list filter rebuilt with {} revoked tokens", getClass().getSimpleName(), count);
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> rebuild -> Failed to rebuild deny-list filter, keeping the current one", getClass().getSimpleName(), exception);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void mirror(String jti) {
+        // read the rebuilding filter first, so a rebuild finishing in between cannot drop the jti
+        BloomFilter rebuilding = rebuildingFilter;
+        if (Objects.nonNull(rebuilding)) rebuilding.put(jti);
+        bloomFilter.put(jti);
+    }
+
+    private BloomFilter newBloomFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    private static String key(String jti) {
+        return KEY_PREFIX + jti;
+    }
+}
@@ -27,9 +27,11 @@
  */
 package com.revquix.sm.auth.authentication;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.revquix.sm.auth.enums.AuthenticationType;
 import com.revquix.sm.auth.enums.ClientType;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
 
@@ -74,4 +76,12 @@ public class AuthIdentity {
     private List<String> providers;
     private boolean hasPassword;
     private Date lastPasswordChange;
+
+    @JsonIgnore
+    @ToString.Exclude
+    private AuthoritySet roleSet;
+
+    @JsonIgnore
+    @ToString.Exclude
+    private AuthoritySet scopeSet;
 }
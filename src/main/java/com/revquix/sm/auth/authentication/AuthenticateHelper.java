@@ -28,26 +28,22 @@
 package com.revquix.sm.auth.authentication;
 
 import com.revquix.sm.auth.enums.AuthenticationType;
-import com.revquix.sm.auth.model.ClientAuth;
 import com.revquix.sm.auth.model.RefreshToken;
 import com.revquix.sm.auth.model.UserAuth;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
 import com.revquix.sm.auth.payload.record.LoginCredentials;
 import com.revquix.sm.auth.payload.record.LoginPrincipal;
+import com.revquix.sm.auth.payload.record.RegisteredClient;
 import com.revquix.sm.auth.payload.record.SSOAuthenticationPayload;
-import com.revquix.sm.auth.utils.RolesParserUtil;
-import com.revquix.sm.auth.utils.ScopeParserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 /**
  * Developer: Rohit Parihar
@@ -69,6 +65,7 @@ public class AuthenticateHelper {
 
     private final RevquixUserAuthenticator revquixUserAuthenticator;
     private final RevquixClientAuthenticator revquixClientAuthenticator;
+    private final AuthorityGraph authorityGraph;
 
     public AuthenticationType getAuthenticationType(LoginPrincipal loginPrincipal, LoginCredentials loginCredentials) {
         log.info("{} >> getAuthenticationType", getClass().getSimpleName());
@@ -83,55 +80,51 @@ public class AuthenticateHelper {
     public UsernamePasswordAuthenticationToken generateAuthentication(LoginPrincipal principal, LoginCredentials credentials) {
         log.info("{} >> generateAuthentication (principal, credentials)", getClass().getSimpleName());
         UserAuth userAuth = null;
-        List<String> roles = Collections.emptyList();
+        AuthoritySet roles = AuthoritySet.EMPTY;
         AuthenticationType authenticationType = getAuthenticationType(principal, credentials);
         if (authenticationType.equals(AuthenticationType.USER_LOGIN)) {
             log.info("{} >> generateAuthentication (principal, credentials) -> Bloggios User login detected with entrypoint: {}", getClass().getSimpleName(), principal.entrypoint());
             userAuth = revquixUserAuthenticator.authenticateUser(principal, credentials);
-            roles = Collections.unmodifiableList(RolesParserUtil.parseRoles(userAuth.getRoles()));
+            roles = authorityGraph.roles(userAuth.getRoles());
         }
-        ClientAuth clientAuth = revquixClientAuthenticator.authenticateClient(principal, credentials);
+        RegisteredClient clientAuth = revquixClientAuthenticator.authenticateClient(principal, credentials);
         return getUsernamePasswordAuthenticationToken(authenticationType, clientAuth, roles, userAuth);
     }
 
     public UsernamePasswordAuthenticationToken generateAuthentication(RefreshToken refreshToken) {
         log.info("{} >> generateAuthentication (refreshToken)", getClass().getSimpleName());
         UserAuth userAuth = null;
-        List<String> roles = Collections.emptyList();
+        AuthoritySet roles = AuthoritySet.EMPTY;
         AuthenticationType authenticationType = refreshToken.getAuthenticationType();
         if (authenticationType.equals(AuthenticationType.USER_LOGIN)) {
             userAuth = revquixUserAuthenticator.authenticateRefreshTokenUser(refreshToken.getUserId());
-            roles = Collections.unmodifiableList(RolesParserUtil.parseRoles(userAuth.getRoles()));
+            roles = authorityGraph.roles(userAuth.getRoles());
         }
-        ClientAuth clientAuth = revquixClientAuthenticator.authenticateClient(refreshToken.getClientId());
+        RegisteredClient clientAuth = revquixClientAuthenticator.authenticateClient(refreshToken.getClientId());
         return getUsernamePasswordAuthenticationToken(authenticationType, clientAuth, roles, userAuth);
     }
 
     public UsernamePasswordAuthenticationToken generateSSOAuthentication(SSOAuthenticationPayload ssoAuthenticationPayload) {
         log.info("{} >> generateAuthentication (ssoAuthenticationPayload)", getClass().getSimpleName());
         revquixUserAuthenticator.authenticateSSOUser(ssoAuthenticationPayload);
-        List<String> roles = Collections.unmodifiableList(RolesParserUtil.parseRoles(ssoAuthenticationPayload.userAuth().getRoles()));
-        ClientAuth clientAuth = revquixClientAuthenticator.authenticateClient(ssoAuthenticationPayload);
+        AuthoritySet roles = authorityGraph.roles(ssoAuthenticationPayload.userAuth().getRoles());
+        RegisteredClient clientAuth = revquixClientAuthenticator.authenticateClient(ssoAuthenticationPayload);
         return getUsernamePasswordAuthenticationToken(AuthenticationType.USER_LOGIN, clientAuth, roles, ssoAuthenticationPayload.userAuth());
     }
 
-    private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(AuthenticationType authenticationType, ClientAuth clientAuth, List<String> roles, UserAuth userAuth) {
+    private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(AuthenticationType authenticationType, RegisteredClient clientAuth, AuthoritySet roles, UserAuth userAuth) {
         log.info("{} >> generateUsernamePasswordAuthenticationToken (authenticationType, clientAuth, roles, userAuth)", getClass().getSimpleName());
-        List<String> scopes = Collections.unmodifiableList(ScopeParserUtil.parseScopes(clientAuth.getScopes()));
-        List<String> authoritiesString = Stream
-                .concat(roles.stream(), scopes.stream())
-                .toList();
-        List<SimpleGrantedAuthority> authorities = authoritiesString
-                .stream()
-                .map(SimpleGrantedAuthority::new)
-                .toList();
-        AuthIdentity authIdentity = getAuthIdentity(userAuth, clientAuth, authorities, authenticationType, roles, scopes);
+        AuthoritySet scopes = clientAuth.scopes();
+        List<GrantedAuthority> authorities = authorityGraph.combine(roles, scopes).authorities();
+        AuthIdentity authIdentity = getAuthIdentity(userAuth, clientAuth, authorities, authenticationType, roles.values(), scopes.values());
+        authIdentity.setRoleSet(roles);
+        authIdentity.setScopeSet(scopes);
         return new UsernamePasswordAuthenticationToken(authIdentity, null, authorities);
     }
 
     private AuthIdentity getAuthIdentity(
             UserAuth userAuth,
-            ClientAuth clientAuth,
+            RegisteredClient clientAuth,
             Collection<? extends GrantedAuthority> authorities,
             AuthenticationType authenticationType,
             List<String> roles,
@@ -140,12 +133,12 @@ public class AuthenticateHelper {
         log.info("{} >> getAuthIdentity -> Generating AuthIdentity", getClass().getSimpleName());
         AuthIdentity authIdentity = AuthIdentity
                 .builder()
-                .clientId(clientAuth.getClientId().toString())
-                .clientName(clientAuth.getClientName())
+                .clientId(clientAuth.clientId())
+                .clientName(clientAuth.clientName())
                 .roles(roles)
                 .scopes(scopes)
-                .origins(clientAuth.getOrigins())
-                .clientType(clientAuth.getClientType())
+                .origins(clientAuth.origins())
+                .clientType(clientAuth.clientType())
                 .authorities(authorities)
                 .authenticationType(authenticationType)
                 .build();
@@ -0,0 +1,276 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: AuthorityGraph
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.revquix.sm.auth.model.Role;
+import com.revquix.sm.auth.model.Scope;
+import com.revquix.sm.auth.payload.record.AuthorityRequirement;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
+import com.revquix.sm.auth.properties.FetchRoleProperties;
+import com.revquix.sm.auth.properties.FetchScopeProperties;
+import com.revquix.sm.auth.utils.RolesParserUtil;
+import com.revquix.sm.auth.utils.ScopeParserUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * AuthorityGraph expands roles and scopes into their authorities once instead of on every
+ * authentication. At startup every role from role-data.yml and scope from scope-data.yml is given
+ * a bit index, ordered by id so that every instance assigns the same index, and its internal roles
+ * or scopes are flattened. A set of roles or scopes is then identified by the mask of its indexes,
+ * and its expansion is built once per distinct mask and cached, together with the combination of a
+ * role set and a scope set. GrantedAuthority instances are interned so every cached set shares them.
+ *
+ * <p>Roles or scopes that are not in the yml files, or beyond the first 63 of each, fall back to
+ * flattening the entities through RolesParserUtil and ScopeParserUtil without caching.
+ *
+ * <p>The masks are also what the compact token profile carries instead of authority lists, and what
+ * required authorities are checked against through {@link #requirement(List)}. version
+ * identifies the index assignment and expansions, so a token issued against a different role or
+ * scope registry is recognised rather than misread.
+ */
+@Component
+@Slf4j
+public class AuthorityGraph {
+
+    private final Map<String, GrantedAuthority> internedAuthorities = new ConcurrentHashMap<>();
+    private final Map<String, Integer> roleIndexes;
+    private final List<List<String>> roleExpansions;
+    private final Map<String, Integer> scopeIndexes;
+    private final List<List<String>> scopeExpansions;
+    private final String version;
+    private final Cache<Long, AuthoritySet> roleSets;
+    private final Cache<Long, AuthoritySet> scopeSets;
+    private final Cache<CombinedKey, AuthoritySet> combinedSets;
+
+    public AuthorityGraph(FetchRoleProperties fetchRoleProperties,
+                          FetchScopeProperties fetchScopeProperties,
+                          @Value("${authority-graph.cache-maximum-size:1024}") long cacheMaximumSize) {
+        Map<String, List<String>> roles = new HashMap<>();
+        fetchRoleProperties.data.values().forEach(rolePayload -> roles.put(rolePayload.getId(), expand(rolePayload.getRole(), rolePayload.getInternalRoles())));
+        Map<String, List<String>> scopes = new HashMap<>();
+        fetchScopeProperties.data.values().forEach(scopePayload -> scopes.put(scopePayload.getId(), expand(scopePayload.getScope(), scopePayload.getInternalScopes())));
+        this.roleIndexes = index(roles);
+        this.roleExpansions = expansions(roles, roleIndexes);
+        this.scopeIndexes = index(scopes);
+        this.scopeExpansions = expansions(scopes, scopeIndexes);
+        this.version = version(roleIndexes, roleExpansions, scopeIndexes, scopeExpansions);
+        this.roleSets = Caffeine.newBuilder().maximumSize(cacheMaximumSize).build();
+        this.scopeSets = Caffeine.newBuilder().maximumSize(cacheMaximumSize).build();
+        this.combinedSets = Caffeine.newBuilder().maximumSize(cacheMaximumSize).build();
+        log.info("AuthorityGraph initialized with {} roles and {} scopes, version: {}", roleIndexes.size(), scopeIndexes.size(), version);
+    }
+
+    public AuthoritySet roles(List<Role> roles) {
+        if (Objects.isNull(roles) || roles.isEmpty()) return AuthoritySet.EMPTY;
+        long mask = mask(roles, Role::getRoleId, roleIndexes);
+        if (mask < 0) return unindexed(RolesParserUtil.parseRoles(roles));
+        return roleSets.get(mask, key -> indexed(key, roleExpansions));
+    }
+
+    public AuthoritySet scopes(List<Scope> scopes) {
+        if (Objects.isNull(scopes) || scopes.isEmpty()) return AuthoritySet.EMPTY;
+        long mask = mask(scopes, Scope::getScopeId, scopeIndexes);
+        if (mask < 0) return unindexed(ScopeParserUtil.parseScopes(scopes));
+        return scopeSets.get(mask, key -> indexed(key, scopeExpansions));
+    }
+
+    /**
+     * Expands a role mask carried by a compact token. Bits without a role are ignored.
+     */
+    public AuthoritySet roles(long mask) {
+        long knownMask = mask & fullMask(roleExpansions.size());
+        if (knownMask == 0) return AuthoritySet.EMPTY;
+        return roleSets.get(knownMask, key -> indexed(key, roleExpansions));
+    }
+
+    /**
+     * Expands a scope mask carried by a compact token. Bits without a scope are ignored.
+     */
+    public AuthoritySet scopes(long mask) {
+        long knownMask = mask & fullMask(scopeExpansions.size());
+        if (knownMask == 0) return AuthoritySet.EMPTY;
+        return scopeSets.get(knownMask, key -> indexed(key, scopeExpansions));
+    }
+
+    /**
+     * Compiles required authorities into the role and scope bits that grant each of them, so that
+     * checking an indexed role and scope set against them takes bit operations only.
+     */
+    public AuthorityRequirement requirement(List<String> authorities) {
+        long[] roleMasks = new long[authorities.size()];
+        long[] scopeMasks = new long[authorities.size()];
+        for (int index = 0; index < authorities.size(); index++) {
+            roleMasks[index] = grantingMask(authorities.get(index), roleExpansions);
+            scopeMasks[index] = grantingMask(authorities.get(index), scopeExpansions);
+        }
+        return new AuthorityRequirement(roleMasks, scopeMasks);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Combines the authorities of a role set and a scope set, roles first.
+     */
+    public AuthoritySet combine(AuthoritySet roles, AuthoritySet scopes) {
+        if (roles.values().isEmpty()) return scopes;
+        if (scopes.values().isEmpty()) return roles;
+        if (!roles.indexed() || !scopes.indexed()) return concat(roles, scopes);
+        return combinedSets.get(new CombinedKey(roles.mask(), scopes.mask()), key -> concat(roles, scopes));
+    }
+
+    private GrantedAuthority intern(String authority) {
+        return internedAuthorities.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    private AuthoritySet indexed(long mask, List<List<String>> expansions) {
+        Set<String> values = new LinkedHashSet<>();
+        for (int index = 0; index < expansions.size(); index++) {
+            if ((mask & (1L << index)) != 0) values.addAll(expansions.get(index));
+        }
+        return authoritySet(mask, true, List.copyOf(values));
+    }
+
+    private AuthoritySet unindexed(List<String> values) {
+        return authoritySet(0L, false, List.copyOf(values));
+    }
+
+    private AuthoritySet concat(AuthoritySet roles, AuthoritySet scopes) {
+        List<String> values = new ArrayList<>(roles.values().size() + scopes.values().size());
+        values.addAll(roles.values());
+        values.addAll(scopes.values());
+        return authoritySet(0L, false, List.copyOf(values));
+    }
+
+    private AuthoritySet authoritySet(long mask, boolean indexed, List<String> values) {
+        List<GrantedAuthority> authorities = values
+                .stream()
+                .map(this::intern)
+                .toList();
+        return new AuthoritySet(mask, indexed, values, authorities);
+    }
+
+    /**
+     * @return The mask of the given roles or scopes, or -1 if any of them has no index.
+     */
+    private static <T> long mask(Collection<T> items, Function<T, String> idExtractor, Map<String, Integer> indexes) {
+        long mask = 0L;
+        for (T item : items) {
+            Integer index = indexes.get(idExtractor.apply(item));
+            if (Objects.isNull(index)) return -1L;
+            mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    private static long grantingMask(String authority, List<List<String>> expansions) {
+        long mask = 0L;
+        for (int index = 0; index < expansions.size(); index++) {
+            if (expansions.get(index).contains(authority)) mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    private static long fullMask(int size) {
+        return size == 0 ? 0L : -1L >>> (Long.SIZE - size);
+    }
+
+    private static String version(Map<String, Integer> roleIndexes, List<List<String>> roleExpansions,
+                                  Map<String, Integer> scopeIndexes, List<List<String>> scopeExpansions) {
+        StringBuilder canonical = new StringBuilder();
+        appendCanonical(canonical.append("roles:"), roleIndexes, roleExpansions);
+        appendCanonical(canonical.append("|scopes:"), scopeIndexes, scopeExpansions);
+        CRC32 crc32 = new CRC32();
+        crc32.update(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc32.getValue());
+    }
+
+    private static void appendCanonical(StringBuilder canonical, Map<String, Integer> indexes, List<List<String>> expansions) {
+        indexes.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> canonical.append(entry.getKey()).append('=').append(String.join(",", expansions.get(entry.getValue()))).append(';'));
+    }
+
+    private static List<String> expand(String name, List<String> internal) {
+        Set<String> values = new LinkedHashSet<>();
+        values.add(name);
+        if (Objects.nonNull(internal)) values.addAll(internal);
+        return List.copyOf(values);
+    }
+
+    private static Map<String, Integer> index(Map<String, List<String>> expansions) {
+        List<String> ids = expansions.keySet()
+                .stream()
+                .sorted()
+                .limit(Long.SIZE - 1)
+                .toList();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int index = 0; index < ids.size(); index++) indexes.put(ids.get(index), index);
+        if (expansions.size() > ids.size())
+            log.warn("AuthorityGraph >> index -> Only the first {} of {} ids are indexed, the rest are expanded per request", ids.size(), expansions.size());
+        return Map.copyOf(indexes);
+    }
+
+    private static List<List<String>> expansions(Map<String, List<String>> expansions, Map<String, Integer> indexes) {
+        List<List<String>> byIndex = new ArrayList<>();
+        for (int index = 0; index < indexes.size(); index++) byIndex.add(List.of());
+        indexes.forEach((id, index) -> byIndex.set(index, expansions.get(id)));
+        return List.copyOf(byIndex);
+    }
+
+    private record CombinedKey(long roleMask, long scopeMask) {
+    }
+}
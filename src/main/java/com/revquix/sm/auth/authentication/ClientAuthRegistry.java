@@ -0,0 +1,153 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: ClientAuthRegistry
+ */
+
+import com.revquix.sm.auth.model.ClientAuth;
+import com.revquix.sm.auth.payload.record.RegisteredClient;
+import com.revquix.sm.auth.repository.ClientRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ClientAuthRegistry keeps every ClientAuth in an immutable in-memory snapshot so that login,
+ * refresh and SSO authentication resolve the client without a database round trip or the join
+ * on its scopes. The snapshot is replaced as a whole on the periodic refresh and per client on
+ * invalidate, which is called after a client is written locally and by ClientAuthChangeListener
+ * when Postgres notifies a change made elsewhere. A client missing from the snapshot is looked up
+ * once in the database, so clients created on another instance are usable before the next refresh.
+ * Ids not found there are remembered for client-registry.unknown-client-ttl, so requests carrying a
+ * bogus clientId do not reach the database every time.
+ */
+@Component
+@Slf4j
+public class ClientAuthRegistry {
+
+    private final ClientRepository clientRepository;
+    private final AuthorityGraph authorityGraph;
+    private final Counter missCounter;
+    private final Counter unknownCounter;
+    private final Cache<String, Boolean> unknownClients;
+    private volatile Map<String, RegisteredClient> clients = Map.of();
+
+    public ClientAuthRegistry(ClientRepository clientRepository,
+                              AuthorityGraph authorityGraph,
+                              MeterRegistry meterRegistry,
+                              @Value("${client-registry.unknown-client-ttl:PT30S}") Duration unknownClientTtl,
+                              @Value("${client-registry.unknown-client-maximum-size:10000}") long unknownClientMaximumSize) {
+        this.clientRepository = clientRepository;
+        this.authorityGraph = authorityGraph;
+        this.unknownClients = Caffeine.newBuilder().expireAfterWrite(unknownClientTtl).maximumSize(unknownClientMaximumSize).build();
+        this.missCounter = Counter.builder("client.registry.miss").description("Client lookups not found in the in-memory registry").register(meterRegistry);
+        this.unknownCounter = Counter.builder("client.registry.unknown").description("Client lookups answered from the cache of unknown client ids").register(meterRegistry);
+        Gauge.builder("client.registry.size", this, registry -> registry.clients.size()).description("Clients held in the in-memory registry").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    public Optional<RegisteredClient> find(String clientId) {
+        RegisteredClient registeredClient = clients.get(clientId);
+        if (registeredClient != null) return Optional.of(registeredClient);
+        if (unknownClients.getIfPresent(clientId) != null) {
+            unknownCounter.increment();
+            return Optional.empty();
+        }
+        missCounter.increment();
+        Optional<RegisteredClient> loaded = clientRepository.findById(clientId).map(this::toRegisteredClient);
+        loaded.ifPresentOrElse(this::put, () -> unknownClients.put(clientId, Boolean.TRUE));
+        return loaded;
+    }
+
+    /**
+     * Reloads every client and replaces the snapshot.
+     */
+    @Scheduled(
+            initialDelayString = "${client-registry.refresh-interval:PT5M}",
+            fixedDelayString = "${client-registry.refresh-interval:PT5M}"
+    )
+    public synchronized void refresh() {
+        Map<String, RegisteredClient> loaded = clientRepository.findAll()
+                .stream()
+                .map(this::toRegisteredClient)
+                .collect(Collectors.toUnmodifiableMap(RegisteredClient::clientId, Function.identity()));
+        clients = loaded;
+        unknownClients.invalidateAll();
+        log.info("{} >> refresh -> Loaded {} clients", getClass().getSimpleName(), loaded.size());
+    }
+
+    /**
+     * Reloads a single client from the database, replacing or removing it in the snapshot.
+     *
+     * @param clientId The id of the client that was created, updated or deleted.
+     * @return The reloaded client, empty if it no longer exists.
+     */
+    public synchronized Optional<RegisteredClient> invalidate(String clientId) {
+        log.info("{} >> invalidate -> clientId: {}", getClass().getSimpleName(), clientId);
+        unknownClients.invalidate(clientId);
+        Optional<RegisteredClient> registeredClient = clientRepository.findById(clientId).map(this::toRegisteredClient);
+        if (registeredClient.isEmpty() && !clients.containsKey(clientId)) return registeredClient;
+        Map<String, RegisteredClient> updated = new HashMap<>(clients);
+        registeredClient.ifPresentOrElse(client -> updated.put(clientId, client), () -> updated.remove(clientId));
+        clients = Map.copyOf(updated);
+        return registeredClient;
+    }
+
+    private RegisteredClient toRegisteredClient(ClientAuth clientAuth) {
+        return RegisteredClient.from(clientAuth, authorityGraph);
+    }
+
+    private synchronized void put(RegisteredClient registeredClient) {
+        Map<String, RegisteredClient> updated = new HashMap<>(clients);
+        updated.put(registeredClient.clientId(), registeredClient);
+        clients = Map.copyOf(updated);
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: ClientPathMatcherIndex
+ */
+
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ClientPathMatcherIndex holds the paths a CLIENT_LOGIN token is allowed to access,
+ * precompiled into PathPatterns with the servlet context path already applied.
+ * Patterns are grouped by their first literal path segment so a lookup only evaluates
+ * the patterns sharing the request's first segment plus those starting with a wildcard.
+ * The index is rebuilt only when the configured ExcludedPaths lists are replaced. A pattern that
+ * PathPatternParser rejects, such as ** in the middle of a path which AntPathMatcher used to accept,
+ * fails the startup instead of being dropped.
+ */
+@Component
+@Slf4j
+public class ClientPathMatcherIndex {
+
+    private static final String CONTEXT_PATH_PROPERTY = "server.servlet.context-path";
+    private static final char PATH_SEPARATOR = '/';
+
+    private final AuthenticationProperties authenticationProperties;
+    private final String contextPath;
+    private volatile Index index;
+
+    public ClientPathMatcherIndex(AuthenticationProperties authenticationProperties, Environment environment) {
+        this.authenticationProperties = authenticationProperties;
+        this.contextPath = Objects.requireNonNullElse(environment.getProperty(CONTEXT_PATH_PROPERTY), "");
+        this.index = buildIndex(authenticationProperties.getExcludedPaths());
+    }
+
+    /**
+     * Checks whether the given request URI matches any client authentication or excluded path.
+     *
+     * @param requestURI The request URI including the context path.
+     * @return true if the URI matches a configured pattern, false otherwise.
+     */
+    public boolean matches(String requestURI) {
+        Index current = currentIndex();
+        PathContainer pathContainer = PathContainer.parsePath(requestURI);
+        List<PathPattern> prefixed = current.prefixedPatterns().get(firstSegment(requestURI));
+        if (Objects.nonNull(prefixed) && anyMatch(prefixed, pathContainer)) return true;
+        return anyMatch(current.wildcardPatterns(), pathContainer);
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        AuthenticationProperties.ExcludedPaths excludedPaths = authenticationProperties.getExcludedPaths();
+        if (current.clientPaths() != excludedPaths.getJwtPaths().getClientAuthenticationPaths()
+                || current.excludePaths() != excludedPaths.getJwtPaths().getExcludePaths()) {
+            log.info("{} >> currentIndex -> ExcludedPaths changed, rebuilding path index", getClass().getSimpleName());
+            current = buildIndex(excludedPaths);
+            index = current;
+        }
+        return current;
+    }
+
+    private Index buildIndex(AuthenticationProperties.ExcludedPaths excludedPaths) {
+        List<String> clientPaths = excludedPaths.getJwtPaths().getClientAuthenticationPaths();
+        List<String> excludePaths = excludedPaths.getJwtPaths().getExcludePaths();
+        Set<String> allPaths = new LinkedHashSet<>(clientPaths);
+        allPaths.addAll(excludePaths);
+        PathPatternParser pathPatternParser = new PathPatternParser();
+        Map<String, List<PathPattern>> prefixedPatterns = new HashMap<>();
+        List<PathPattern> wildcardPatterns = new ArrayList<>();
+        for (String path : allPaths) {
+            String fullPath = contextPath + path;
+            PathPattern pathPattern;
+            try {
+                pathPattern = pathPatternParser.parse(fullPath);
+            } catch (PatternParseException exception) {
+                // skipping the pattern would silently stop a configured path from matching
+                throw new IllegalStateException("Invalid path pattern in bloggios-auth.excluded-paths: " + fullPath, exception);
+            }
+            String prefix = firstSegment(fullPath);
+            if (isLiteral(prefix)) prefixedPatterns.computeIfAbsent(prefix, key -> new ArrayList<>()).add(pathPattern);
+            else wildcardPatterns.add(pathPattern);
+        }
+        log.info("{} >> buildIndex -> {} prefixes, {} wildcard patterns", getClass().getSimpleName(), prefixedPatterns.size(), wildcardPatterns.size());
+        return new Index(clientPaths, excludePaths, Map.copyOf(prefixedPatterns), List.copyOf(wildcardPatterns));
+    }
+
+    private static boolean anyMatch(List<PathPattern> pathPatterns, PathContainer pathContainer) {
+        for (PathPattern pathPattern : pathPatterns) {
+            if (pathPattern.matches(pathContainer)) return true;
+        }
+        return false;
+    }
+
+    private static String firstSegment(String path) {
+        int start = !path.isEmpty() && path.charAt(0) == PATH_SEPARATOR ? 1 : 0;
+        int end = path.indexOf(PATH_SEPARATOR, start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?' || c == '{') return false;
+        }
+        return true;
+    }
+
+    private record Index(List<String> clientPaths,
+                         List<String> excludePaths,
+                         Map<String, List<PathPattern>> prefixedPatterns,
+                         List<PathPattern> wildcardPatterns) {
+    }
+}
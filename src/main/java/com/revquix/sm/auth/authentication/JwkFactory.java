@@ -0,0 +1,181 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwkFactory
+ */
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.revquix.sm.application.exception.ErrorData;
+import com.revquix.sm.application.exception.InternalServerException;
+import com.revquix.sm.auth.enums.JwtKeyType;
+import com.revquix.sm.auth.payload.record.SigningKey;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JwkFactory turns a keystore key pair into a signing JWK for the given JwtKeyType and builds
+ * the JwtEncoder and JwtDecoder over a JwtKeyring, so the rest of the service does not depend on the key algorithm.
+ * EC keys must be on P-256 for ES256, and Ed25519 keys are exported as an OKP JWK.
+ */
+@UtilityClass
+public class JwkFactory {
+
+    private static final String ED25519 = "Ed25519";
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    /**
+     * Creates the signing JWK of a key pair. When no key id is given the RFC 7638 thumbprint of the key is used.
+     */
+    public static JWK create(JwtKeyType keyType, PublicKey publicKey, PrivateKey privateKey, String keyId) {
+        JWSAlgorithm algorithm = JWSAlgorithm.parse(keyType.getName());
+        try {
+            JWK jwk = switch (keyType) {
+                case RSA -> new RSAKey.Builder((RSAPublicKey) publicKey)
+                        .privateKey((RSAPrivateKey) privateKey)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(algorithm)
+                        .build();
+                case EC -> new ECKey.Builder(p256((ECPublicKey) publicKey), (ECPublicKey) publicKey)
+                        .privateKey((ECPrivateKey) privateKey)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(algorithm)
+                        .build();
+                case ED25519 -> new OctetKeyPair.Builder(Curve.Ed25519, ed25519PublicKey((EdECPublicKey) publicKey))
+                        .d(Base64URL.encode(((EdECPrivateKey) privateKey).getBytes().orElseThrow()))
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(algorithm)
+                        .build();
+            };
+            return withKeyId(jwk, Objects.isNull(keyId) ? jwk.computeThumbprint().toString() : keyId);
+        } catch (ClassCastException | IllegalArgumentException | IllegalStateException | JOSEException exception) {
+            throw new InternalServerException(ErrorData.UNSUPPORTED_JWT_KEY_TYPE, exception);
+        }
+    }
+
+    /**
+     * Creates a keyring entry for the JWK together with the verifier that checks its signatures.
+     */
+    public static SigningKey signingKey(JWK jwk, Instant activatesAt, Instant retiresAt) {
+        try {
+            return new SigningKey(jwk, verifier(jwk.toPublicJWK()), Objects.isNull(activatesAt) ? Instant.EPOCH : activatesAt, retiresAt);
+        } catch (JOSEException exception) {
+            throw new InternalServerException(ErrorData.UNSUPPORTED_JWT_KEY_TYPE, exception);
+        }
+    }
+
+    /**
+     * Builds a JwtEncoder signing with the current signing key of the keyring. Encoder parameters without
+     * a JWS header are signed with the algorithm and kid of that key rather than the RS256 default of
+     * NimbusJwtEncoder, so the kid tells verifiers which key to use.
+     */
+    public static JwtEncoder jwtEncoder(JwtKeyring jwtKeyring) {
+        JwtEncoder nimbusJwtEncoder = new NimbusJwtEncoder((jwkSelector, context) -> jwkSelector.select(jwtKeyring.jwkSet()));
+        return parameters -> {
+            if (Objects.nonNull(parameters.getJwsHeader())) return nimbusJwtEncoder.encode(parameters);
+            JWK jwk = jwtKeyring.signingKey().jwk();
+            JwsHeader jwsHeader = JwsHeader
+                    .with(JwtKeyType.fromAlgorithm(jwk.getAlgorithm().getName()))
+                    .keyId(jwk.getKeyID())
+                    .build();
+            return nimbusJwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, parameters.getClaims()));
+        };
+    }
+
+    public static JwtDecoder jwtDecoder(JwtKeyring jwtKeyring) {
+        return new NimbusJwtDecoder(new SignatureJwtProcessor(jwtKeyring));
+    }
+
+    private static JWSVerifier verifier(JWK jwk) throws JOSEException {
+        return switch (jwk) {
+            case RSAKey rsaKey -> new RSASSAVerifier(rsaKey);
+            case ECKey ecKey -> new ECDSAVerifier(ecKey);
+            case OctetKeyPair octetKeyPair -> new Ed25519Verifier(octetKeyPair);
+            default -> throw new JOSEException("Unsupported JWK type: " + jwk.getKeyType());
+        };
+    }
+
+    private static JWK withKeyId(JWK jwk, String keyId) {
+        return switch (jwk) {
+            case RSAKey rsaKey -> new RSAKey.Builder(rsaKey).keyID(keyId).build();
+            case ECKey ecKey -> new ECKey.Builder(ecKey).keyID(keyId).build();
+            case OctetKeyPair octetKeyPair -> new OctetKeyPair.Builder(octetKeyPair).keyID(keyId).build();
+            default -> throw new IllegalArgumentException("Unsupported JWK type: " + jwk.getKeyType());
+        };
+    }
+
+    private static Curve p256(ECPublicKey publicKey) {
+        Curve curve = Curve.forECParameterSpec(publicKey.getParams());
+        if (!Curve.P_256.equals(curve)) throw new IllegalArgumentException("ES256 requires a P-256 key, found " + curve);
+        return curve;
+    }
+
+    /**
+     * Extracts the raw 32 byte public key, which is the tail of the X.509 SubjectPublicKeyInfo encoding.
+     */
+    private static Base64URL ed25519PublicKey(EdECPublicKey publicKey) {
+        if (!ED25519.equalsIgnoreCase(publicKey.getParams().getName())) {
+            throw new IllegalArgumentException("EdDSA requires an Ed25519 key, found " + publicKey.getParams().getName());
+        }
+        byte[] encoded = publicKey.getEncoded();
+        return Base64URL.encode(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length));
+    }
+}
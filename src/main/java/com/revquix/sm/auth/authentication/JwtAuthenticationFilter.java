@@ -46,6 +46,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.stereotype.Component;
@@ -65,16 +66,20 @@ import java.util.Collection;
  * JwtAuthenticationFilter is a custom filter that intercepts incoming HTTP requests to
  * authenticate JWT tokens. It extracts the token from the Authorization header,
  * validates it, and sets the authentication in the SecurityContext if valid.
+ * The token is decoded exactly once; the validated Jwt is handed to the
+ * RevquixJwtTokenAuthenticator so the signature is not verified a second time.
+ * Tokens whose jti is on the AccessTokenDenyList are rejected before authentication.
  * If the token is expired or malformed, it responds with an appropriate error message.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Order(2)
+@Order(3)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final RevquixJwtTokenAuthenticator revquixJwtTokenAuthenticator;
     private final JwtDecoder jwtDecoder;
+    private final AccessTokenDenyList accessTokenDenyList;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain) throws ServletException, IOException {
@@ -85,8 +90,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         String token = extractTokenFromRequest(request);
         if (token != null) {
+            Jwt jwt;
             try {
-                jwtDecoder.decode(token);
+                jwt = jwtDecoder.decode(token);
             } catch (JwtValidationException exception) {
                 Collection<OAuth2Error> errors = exception.getErrors();
                 boolean isExpired = false;
@@ -123,7 +129,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.UNAUTHORIZED, exceptionResponse, response));
                 return;
             }
-            AuthIdentity authIdentity = revquixJwtTokenAuthenticator.authenticateToken(token, response, request);
+            if (accessTokenDenyList.isRevoked(jwt.getId())) {
+                ExceptionResponse exceptionResponse = ExceptionResponse
+                        .builder()
+                        .code(ErrorData.TOKEN_REVOKED.getCode())
+                        .message(ErrorData.TOKEN_REVOKED.getMessage())
+                        .breadcrumbId(MDC.get(ServiceConstants.BREADCRUMB_ID))
+                        .isTokenExpired(false)
+                        .build();
+                log.error("{} >> ExceptionResponse >> Revoked Token -> {}", getClass().getSimpleName(), exceptionResponse.toString());
+                OutputStreamUtil.getOutputStream(new OutputStreamErrorPayload(HttpStatus.UNAUTHORIZED, exceptionResponse, response));
+                return;
+            }
+            AuthIdentity authIdentity = revquixJwtTokenAuthenticator.authenticateToken(jwt, response, request);
             if (authIdentity == null) return;
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,154 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtKeyring
+ */
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.revquix.sm.application.exception.ErrorData;
+import com.revquix.sm.application.exception.InternalServerException;
+import com.revquix.sm.auth.payload.record.SigningKey;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JwtKeyring holds every signing key of the service indexed by kid. New tokens are signed with the
+ * newest active key, while tokens are verified with whichever non retired key their kid names, so
+ * keys can be published ahead of activation and kept after rotation until issued tokens expire.
+ * Tokens issued before key ids were introduced carry no kid and are verified with the first configured key.
+ * The keys are held in an immutable snapshot that is replaced atomically.
+ */
+public class JwtKeyring {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private volatile Snapshot snapshot;
+    private volatile Published published;
+
+    public JwtKeyring(List<SigningKey> signingKeys) {
+        replace(signingKeys);
+    }
+
+    public void replace(List<SigningKey> signingKeys) {
+        if (signingKeys.isEmpty()) throw new InternalServerException(ErrorData.NO_ACTIVE_JWT_SIGNING_KEY);
+        Map<String, SigningKey> keysById = HashMap.newHashMap(signingKeys.size());
+        for (SigningKey signingKey : signingKeys) {
+            if (Objects.nonNull(keysById.putIfAbsent(signingKey.keyId(), signingKey))) {
+                throw new InternalServerException(ErrorData.DUPLICATE_JWT_KEY_ID);
+            }
+        }
+        List<SigningKey> newestFirst = signingKeys
+                .stream()
+                .sorted(Comparator.comparing(SigningKey::activatesAt).reversed())
+                .toList();
+        JWKSet jwkSet = new JWKSet(signingKeys.stream().map(SigningKey::jwk).toList());
+        this.snapshot = new Snapshot(newestFirst, Map.copyOf(keysById), signingKeys.get(0), jwkSet);
+    }
+
+    /**
+     * Returns the key new tokens are signed with, the most recently activated key that is not retired.
+     */
+    public SigningKey signingKey() {
+        Instant now = Instant.now();
+        for (SigningKey signingKey : snapshot.newestFirst()) {
+            if (signingKey.isActive(now)) return signingKey;
+        }
+        throw new InternalServerException(ErrorData.NO_ACTIVE_JWT_SIGNING_KEY);
+    }
+
+    /**
+     * Looks up the key a token was signed with by its kid, or null when the kid is unknown or the key is retired.
+     */
+    public SigningKey find(String keyId) {
+        Snapshot current = snapshot;
+        SigningKey signingKey = Objects.isNull(keyId) ? current.legacyKey() : current.keysById().get(keyId);
+        if (Objects.isNull(signingKey) || signingKey.isRetired(Instant.now())) return null;
+        return signingKey;
+    }
+
+    /**
+     * Private JWK set of every key, used by the encoder to select the signing key named in the JWS header.
+     */
+    public JWKSet jwkSet() {
+        return snapshot.jwkSet();
+    }
+
+    /**
+     * Returns the public JWK set of the non retired keys serialized for the JWKS endpoint, with a strong
+     * ETag over its content. The serialized set is reused until a key retires or the keyring is replaced.
+     */
+    public PublishedJwkSet publishedJwkSet() {
+        Instant now = Instant.now();
+        Snapshot current = snapshot;
+        List<SigningKey> publishedKeys = current
+                .newestFirst()
+                .stream()
+                .filter(signingKey -> !signingKey.isRetired(now))
+                .toList();
+        Published cached = published;
+        if (Objects.nonNull(cached) && cached.snapshot() == current && cached.keys().equals(publishedKeys)) {
+            return cached.jwkSet();
+        }
+        String json = new JWKSet(publishedKeys.stream().map(signingKey -> signingKey.jwk().toPublicJWK()).toList()).toString();
+        PublishedJwkSet publishedJwkSet = new PublishedJwkSet(json, eTag(json));
+        published = new Published(current, publishedKeys, publishedJwkSet);
+        return publishedJwkSet;
+    }
+
+    private static String eTag(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(json.getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", exception);
+        }
+    }
+
+    private record Snapshot(List<SigningKey> newestFirst, Map<String, SigningKey> keysById, SigningKey legacyKey, JWKSet jwkSet) {
+    }
+
+    private record Published(Snapshot snapshot, List<SigningKey> keys, PublishedJwkSet jwkSet) {
+    }
+
+    public record PublishedJwkSet(String json, String eTag) {
+    }
+}
@@ -30,6 +30,7 @@ package com.revquix.sm.auth.authentication;
 import com.revquix.sm.application.constants.ServiceConstants;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.AuthenticationException;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -64,8 +65,10 @@ import java.util.List;
 public class JwtTokenDecoder {
 
     private final JwtDecoder jwtDecoder;
+    private final AuthorityGraph authorityGraph;
 
     public Collection<? extends GrantedAuthority> extractAuthorities(Jwt jwt) {
+        if (isCompact(jwt)) return authorityGraph.combine(extractRoleSet(jwt), extractScopeSet(jwt)).authorities();
         List<String> authorities = jwt.getClaimAsStringList(ServiceConstants.AUTHORITIES);
         return authorities
                 .stream()
@@ -111,13 +114,52 @@ public class JwtTokenDecoder {
     }
 
     public List<String> extractRoles(Jwt jwt) {
+        if (isCompact(jwt)) return extractRoleSet(jwt).values();
         return jwt.getClaimAsStringList(ServiceConstants.ROLES);
     }
 
     public List<String> extractScopes(Jwt jwt) {
+        if (isCompact(jwt)) return extractScopeSet(jwt).values();
         return jwt.getClaimAsStringList(ServiceConstants.SCOPES);
     }
 
+    /**
+     * @return true if the token uses the compact profile, carrying role and scope masks instead of lists.
+     */
+    public boolean isCompact(Jwt jwt) {
+        return jwt.hasClaim(ServiceConstants.AUTHORITY_VERSION);
+    }
+
+    /**
+     * A compact token can only be read with the AuthorityGraph it was issued against.
+     *
+     * @return false if the token is compact and was issued for a different role or scope registry.
+     */
+    public boolean isSupportedAuthorityVersion(Jwt jwt) {
+        return !isCompact(jwt) || authorityGraph.version().equals(jwt.getClaimAsString(ServiceConstants.AUTHORITY_VERSION));
+    }
+
+    /**
+     * @return The expanded roles of a compact token, or null for a token with the standard profile.
+     */
+    public AuthoritySet extractRoleSet(Jwt jwt) {
+        if (!isCompact(jwt)) return null;
+        return authorityGraph.roles(extractMask(jwt, ServiceConstants.ROLE_MASK));
+    }
+
+    /**
+     * @return The expanded scopes of a compact token, or null for a token with the standard profile.
+     */
+    public AuthoritySet extractScopeSet(Jwt jwt) {
+        if (!isCompact(jwt)) return null;
+        return authorityGraph.scopes(extractMask(jwt, ServiceConstants.SCOPE_MASK));
+    }
+
+    private static long extractMask(Jwt jwt, String claim) {
+        Object mask = jwt.getClaim(claim);
+        return mask instanceof Number number ? number.longValue() : 0L;
+    }
+
     public String extractTokenType(Jwt jwt) {
         return jwt.getClaimAsString(ServiceConstants.TOKEN_TYPE);
     }
@@ -30,6 +30,7 @@ package com.revquix.sm.auth.authentication;
 import com.revquix.sm.application.constants.EnvironmentConstants;
 import com.revquix.sm.application.constants.ServiceConstants;
 import com.revquix.sm.auth.enums.AuthenticationType;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
 import com.revquix.sm.auth.payload.record.RefreshTokenRecord;
 import com.revquix.sm.auth.properties.AuthenticationProperties;
 import com.revquix.sm.application.utils.IpUtils;
@@ -48,6 +49,7 @@ import org.springframework.util.CollectionUtils;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -72,6 +74,7 @@ public class JwtTokenGenerator {
     private final AuthenticationProperties authenticationProperties;
     private final Environment environment;
     private final IpUtils ipUtils;
+    private final AuthorityGraph authorityGraph;
 
     public String generateAccessToken(Authentication authentication, HttpServletRequest httpServletRequest) {
         AuthIdentity authIdentity = (AuthIdentity) authentication.getPrincipal();
@@ -141,10 +144,6 @@ public class JwtTokenGenerator {
     }
 
     private String generateClientAccessToken(AuthIdentity authIdentity, HttpServletRequest httpServletRequest) {
-        List<String> authorities = authIdentity.getAuthorities()
-                .stream()
-                .map(GrantedAuthority::getAuthority)
-                .toList();
         String origin = httpServletRequest.getHeader(ServiceConstants.ORIGIN);
         Instant now = Instant.now();
         AuthenticationProperties.TokenData tokenData = authenticationProperties.getJwt().getTokenData();
@@ -154,8 +153,8 @@ public class JwtTokenGenerator {
                 .expiresAt(now.plus(Objects.isNull(origin) ? tokenData.getLongAccessTokenExpiryMinutes() : tokenData.getAccessTokenExpiryMinutes(), ChronoUnit.MINUTES))
                 .subject(authIdentity.getClientId())
                 .issuer(ServiceConstants.REVQUIX)
-                .claim(ServiceConstants.AUTHORITIES, authorities)
-                .claim(ServiceConstants.SCOPES, authIdentity.getScopes())
+                .claim(ServiceConstants.JTI, UUID.randomUUID().toString())
+                .claims(claims -> putAuthorityClaims(claims, authIdentity, false))
                 .claim(ServiceConstants.CLIENT_ID, authIdentity.getClientId())
                 .claim(ServiceConstants.TOKEN_TYPE, ServiceConstants.ACCESS_TOKEN_TYPE)
                 .claim("environment", Objects.requireNonNull(environment.getProperty(EnvironmentConstants.ACTIVE_PROFILE)))
@@ -169,10 +168,6 @@ public class JwtTokenGenerator {
     }
 
     private String generateUserAccessToken(AuthIdentity authIdentity, HttpServletRequest httpServletRequest) {
-        List<String> authorities = authIdentity.getAuthorities()
-                .stream()
-                .map(GrantedAuthority::getAuthority)
-                .toList();
         String origin = httpServletRequest.getHeader(ServiceConstants.ORIGIN);
         Instant now = Instant.now();
         AuthenticationProperties.TokenData tokenData = authenticationProperties.getJwt().getTokenData();
@@ -182,12 +177,11 @@ public class JwtTokenGenerator {
                 .expiresAt(now.plus(Objects.isNull(origin) ? tokenData.getLongAccessTokenExpiryMinutes() : tokenData.getAccessTokenExpiryMinutes(), ChronoUnit.MINUTES))
                 .subject(authIdentity.getClientId())
                 .issuer(ServiceConstants.REVQUIX)
-                .claim(ServiceConstants.AUTHORITIES, authorities)
+                .claim(ServiceConstants.JTI, UUID.randomUUID().toString())
+                .claims(claims -> putAuthorityClaims(claims, authIdentity, true))
                 .claim(ServiceConstants.USER_ID, authIdentity.getUserId())
                 .claim(ServiceConstants.USERNAME, authIdentity.getUsername())
                 .claim(ServiceConstants.EMAIL, authIdentity.getEmail())
-                .claim(ServiceConstants.ROLES, authIdentity.getRoles())
-                .claim(ServiceConstants.SCOPES, authIdentity.getScopes())
                 .claim(ServiceConstants.CLIENT_ID, authIdentity.getClientId())
                 .claim(ServiceConstants.TOKEN_TYPE, ServiceConstants.ACCESS_TOKEN_TYPE)
                 .claim("environment", Objects.requireNonNull(environment.getProperty(EnvironmentConstants.ACTIVE_PROFILE)))
@@ -199,4 +193,30 @@ public class JwtTokenGenerator {
                 .build();
         return jwtEncoder.encode(JwtEncoderParameters.from(jwtClaimsSet)).getTokenValue();
     }
+
+    /**
+     * Adds the authority claims of an access token. With the compact token profile the roles and scopes
+     * are written as AuthorityGraph masks with the graph version, when the identity carries indexed role
+     * and scope sets; otherwise, and with the standard profile, they are written as string lists.
+     */
+    private void putAuthorityClaims(Map<String, Object> claims, AuthIdentity authIdentity, boolean includeRoles) {
+        AuthoritySet roleSet = includeRoles ? authIdentity.getRoleSet() : AuthoritySet.EMPTY;
+        AuthoritySet scopeSet = authIdentity.getScopeSet();
+        boolean indexed = Objects.nonNull(roleSet) && Objects.nonNull(scopeSet) && roleSet.indexed() && scopeSet.indexed();
+        if (indexed && authenticationProperties.getJwt().isCompactTokenProfile()) {
+            claims.put(ServiceConstants.AUTHORITY_VERSION, authorityGraph.version());
+            if (includeRoles) claims.put(ServiceConstants.ROLE_MASK, roleSet.mask());
+            claims.put(ServiceConstants.SCOPE_MASK, scopeSet.mask());
+            return;
+        }
+        List<String> authorities = indexed
+                ? authorityGraph.combine(roleSet, scopeSet).values()
+                : authIdentity.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        claims.put(ServiceConstants.AUTHORITIES, authorities);
+        if (includeRoles) claims.put(ServiceConstants.ROLES, authIdentity.getRoles());
+        claims.put(ServiceConstants.SCOPES, authIdentity.getScopes());
+    }
 }
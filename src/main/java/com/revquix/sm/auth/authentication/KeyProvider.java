@@ -27,18 +27,36 @@
  */
 package com.revquix.sm.auth.authentication;
 
+import com.nimbusds.jose.jwk.JWK;
 import com.revquix.sm.application.constants.ServiceConstants;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.InternalServerException;
+import com.revquix.sm.auth.enums.JwtKeyType;
+import com.revquix.sm.auth.payload.record.KeyMaterial;
+import com.revquix.sm.auth.payload.record.SigningKey;
 import com.revquix.sm.auth.properties.AuthenticationProperties;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Developer: Rohit Parihar
@@ -47,42 +65,142 @@ import java.security.cert.Certificate;
  * File: KeyProvider.java
  */
 
+/**
+ * KeyProvider loads the JWT keyring from the PKCS12 keystore once and holds it as an immutable
+ * KeyMaterial snapshot, so the keystore decode and password key derivation are not repeated per caller.
+ * The keystore is read from the file system when key-store-path names an existing file, such as a
+ * mounted secret, and from the classpath otherwise. reload() re-reads the file and swaps the snapshot
+ * atomically, notifying the registered listeners, and keeps the current snapshot if the new file fails to load.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class KeyProvider {
 
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
     private final AuthenticationProperties authenticationProperties;
+    private final List<Consumer<KeyMaterial>> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile KeyMaterial keyMaterial;
+
+    public KeyMaterial getKeyMaterial() {
+        KeyMaterial current = keyMaterial;
+        if (Objects.nonNull(current)) return current;
+        synchronized (this) {
+            if (Objects.isNull(keyMaterial)) keyMaterial = load();
+            return keyMaterial;
+        }
+    }
+
+    public List<SigningKey> getSigningKeys() {
+        return getKeyMaterial().signingKeys();
+    }
+
+    /**
+     * Returns the keystore file when the keystore is read from the file system, or null when it is a classpath resource.
+     */
+    public Path getKeyStoreFile() {
+        Path path = Path.of(authenticationProperties.getJwt().getKeyProvider().getKeyStorePath());
+        return Files.isRegularFile(path) ? path.toAbsolutePath() : null;
+    }
 
-    public PrivateKey getPrivateKey() {
+    /**
+     * Registers a listener that receives every KeyMaterial installed by reload().
+     */
+    public void onReload(Consumer<KeyMaterial> listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Re-reads the keystore and installs it as the new snapshot when its content changed.
+     *
+     * @return true when a new snapshot was installed
+     */
+    public synchronized boolean reload() {
+        KeyMaterial loaded = load();
+        if (Objects.nonNull(keyMaterial) && keyMaterial.digest().equals(loaded.digest())) return false;
+        keyMaterial = loaded;
+        log.info("{} >> reload -> Installed key material with kids: {}", getClass().getSimpleName(),
+                loaded.signingKeys().stream().map(SigningKey::keyId).toList());
+        reloadListeners.forEach(listener -> listener.accept(loaded));
+        return true;
+    }
+
+    private KeyMaterial load() {
+        AuthenticationProperties.KeyProvider keyProvider = authenticationProperties.getJwt().getKeyProvider();
+        List<AuthenticationProperties.KeyringEntry> keyring = keyProvider.getKeyring();
+        if (CollectionUtils.isEmpty(keyring)) {
+            AuthenticationProperties.KeyringEntry keyringEntry = new AuthenticationProperties.KeyringEntry();
+            keyringEntry.setKeyAlias(keyProvider.getKeyAlias());
+            keyringEntry.setKeyType(keyProvider.getKeyType());
+            keyring = List.of(keyringEntry);
+        }
+        byte[] keyStoreBytes = readKeyStore(keyProvider);
+        KeyStore keyStore = loadKeyStore(keyProvider, keyStoreBytes);
+        List<SigningKey> signingKeys = keyring
+                .stream()
+                .map(keyringEntry -> signingKey(keyStore, keyProvider, keyringEntry))
+                .toList();
+        return new KeyMaterial(digest(keyStoreBytes), signingKeys, Instant.now());
+    }
+
+    private SigningKey signingKey(KeyStore keyStore, AuthenticationProperties.KeyProvider keyProvider, AuthenticationProperties.KeyringEntry keyringEntry) {
+        PrivateKey privateKey;
         try {
-            KeyStore keyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
-            AuthenticationProperties.KeyProvider keyProvider = authenticationProperties.getJwt().getKeyProvider();
-            try (InputStream keyStoreInputStream = getClass().getResourceAsStream(keyProvider.getKeyStorePath())) {
-                keyStore.load(keyStoreInputStream, keyProvider.getKeyStorePassword().toCharArray());
-            }
-            return (PrivateKey) keyStore.getKey(keyProvider.getKeyAlias(), keyProvider.getKeyStorePassword().toCharArray());
+            privateKey = (PrivateKey) keyStore.getKey(keyringEntry.getKeyAlias(), keyProvider.getKeyStorePassword().toCharArray());
         } catch (Exception exception) {
-            throw new InternalServerException(
-                    ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY,
-                    exception.getCause()
-            );
+            throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY, exception);
+        }
+        PublicKey publicKey = publicKey(keyStore, keyringEntry.getKeyAlias());
+        if (Objects.isNull(privateKey)) throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY);
+        JwtKeyType keyType = JwtKeyType.fromKeyAlgorithm(publicKey.getAlgorithm());
+        if (Objects.isNull(keyType) || (Objects.nonNull(keyringEntry.getKeyType()) && keyringEntry.getKeyType() != keyType)) {
+            throw new InternalServerException(ErrorData.UNSUPPORTED_JWT_KEY_TYPE);
         }
+        JWK jwk = JwkFactory.create(keyType, publicKey, privateKey, keyringEntry.getKeyId());
+        return JwkFactory.signingKey(jwk, keyringEntry.getActivatesAt(), keyringEntry.getRetiresAt());
     }
 
-    public PublicKey getPublicKey() {
+    private PublicKey publicKey(KeyStore keyStore, String keyAlias) {
         try {
-            KeyStore keyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
-            AuthenticationProperties.KeyProvider keyProvider = authenticationProperties.getJwt().getKeyProvider();
+            Certificate certificate = keyStore.getCertificate(keyAlias);
+            if (Objects.isNull(certificate)) throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PUBLIC_KEY);
+            return certificate.getPublicKey();
+        } catch (InternalServerException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PUBLIC_KEY, exception);
+        }
+    }
+
+    private byte[] readKeyStore(AuthenticationProperties.KeyProvider keyProvider) {
+        try {
+            Path keyStoreFile = getKeyStoreFile();
+            if (Objects.nonNull(keyStoreFile)) return Files.readAllBytes(keyStoreFile);
             try (InputStream keyStoreInputStream = getClass().getResourceAsStream(keyProvider.getKeyStorePath())) {
-                keyStore.load(keyStoreInputStream, keyProvider.getKeyStorePassword().toCharArray());
+                if (Objects.isNull(keyStoreInputStream)) throw new IOException("Keystore not found: " + keyProvider.getKeyStorePath());
+                return keyStoreInputStream.readAllBytes();
             }
-            Certificate certificate = keyStore.getCertificate(keyProvider.getKeyAlias());
-            return certificate.getPublicKey();
+        } catch (IOException exception) {
+            throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY, exception);
+        }
+    }
+
+    private KeyStore loadKeyStore(AuthenticationProperties.KeyProvider keyProvider, byte[] keyStoreBytes) {
+        try {
+            KeyStore keyStore = KeyStore.getInstance(ServiceConstants.PKCS12);
+            keyStore.load(new ByteArrayInputStream(keyStoreBytes), keyProvider.getKeyStorePassword().toCharArray());
+            return keyStore;
         } catch (Exception exception) {
-            throw new InternalServerException(
-                    ErrorData.EXCEPTION_WHILE_FETCHING_PUBLIC_KEY,
-                    exception.getCause()
-            );
+            throw new InternalServerException(ErrorData.EXCEPTION_WHILE_FETCHING_PRIVATE_KEY, exception);
+        }
+    }
+
+    private static String digest(byte[] keyStoreBytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(keyStoreBytes));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", exception);
         }
     }
 }
@@ -0,0 +1,149 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: PasswordEncoderFactory
+ */
+
+import com.revquix.sm.auth.enums.PasswordHashAlgorithm;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * PasswordEncoderFactory builds the password encoder from the configured algorithm and cost.
+ * New hashes are written with an {id} prefix through a DelegatingPasswordEncoder so that hashes of
+ * every supported algorithm keep verifying after the configuration changes, and unprefixed hashes
+ * written before the prefix was introduced are verified as BCrypt. upgradeEncoding reports hashes
+ * that use another algorithm, a lower BCrypt strength or other Argon2 parameters, which lets the
+ * login flow rehash them.
+ *
+ * <p>When calibration is enabled the BCrypt strength or the Argon2 iteration count is raised from
+ * the configured value, which acts as a floor, until one hash on the current hardware would exceed
+ * the target latency. PBKDF2 is not calibrated because its hashes do not record the iteration
+ * count, so changing it would invalidate every stored hash.
+ */
+@UtilityClass
+@Slf4j
+public class PasswordEncoderFactory {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final String CALIBRATION_PASSWORD = "calibration-Password#2025";
+
+    public static PasswordEncoder create(AuthenticationProperties.PasswordEncoderData passwordEncoderData) {
+        AuthenticationProperties.Calibration calibration = passwordEncoderData.getCalibration();
+        PasswordHashAlgorithm algorithm = passwordEncoderData.getAlgorithm();
+        int bcryptStrength = passwordEncoderData.getBcryptStrength();
+        int argon2Iterations = passwordEncoderData.getArgon2Iterations();
+        if (calibration.isEnabled()) {
+            switch (algorithm) {
+                case BCRYPT -> bcryptStrength = calibrate(BCRYPT, bcryptStrength, calibration.getMaxBcryptStrength(), calibration,
+                        BCryptPasswordEncoder::new);
+                case ARGON2 -> argon2Iterations = calibrate(ARGON2, argon2Iterations, calibration.getMaxArgon2Iterations(), calibration,
+                        iterations -> argon2(passwordEncoderData, iterations));
+                case PBKDF2 -> log.warn("PasswordEncoderFactory >> create -> Calibration is not supported for PBKDF2, using {} iterations",
+                        passwordEncoderData.getPbkdf2Iterations());
+            }
+        }
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        encoders.put(BCRYPT, bCryptPasswordEncoder);
+        encoders.put(ARGON2, argon2(passwordEncoderData, argon2Iterations));
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder(
+                "",
+                16,
+                passwordEncoderData.getPbkdf2Iterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256
+        ));
+        String idForEncode = switch (algorithm) {
+            case BCRYPT -> BCRYPT;
+            case ARGON2 -> ARGON2;
+            case PBKDF2 -> PBKDF2;
+        };
+        log.info("PasswordEncoderFactory >> create -> algorithm: {}, bcryptStrength: {}, argon2Iterations: {}, argon2MemoryKb: {}, pbkdf2Iterations: {}",
+                algorithm, bcryptStrength, argon2Iterations, passwordEncoderData.getArgon2MemoryKb(), passwordEncoderData.getPbkdf2Iterations());
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return delegatingPasswordEncoder;
+    }
+
+    private static Argon2PasswordEncoder argon2(AuthenticationProperties.PasswordEncoderData passwordEncoderData, int iterations) {
+        return new Argon2PasswordEncoder(
+                16,
+                32,
+                passwordEncoderData.getArgon2Parallelism(),
+                passwordEncoderData.getArgon2MemoryKb(),
+                iterations
+        );
+    }
+
+    /**
+     * Raises the cost from the configured floor while a hash stays within the target latency.
+     *
+     * @return The highest cost whose measured hash time is within the target, never below the floor.
+     */
+    private static int calibrate(String name, int floor, int ceiling, AuthenticationProperties.Calibration calibration, IntFunction<PasswordEncoder> encoderForCost) {
+        Duration targetLatency = calibration.getTargetLatency();
+        encoderForCost.apply(floor).encode(CALIBRATION_PASSWORD);
+        int selected = floor;
+        for (int cost = floor; cost <= ceiling; cost++) {
+            Duration elapsed = measure(encoderForCost.apply(cost), calibration.getSamples());
+            log.info("PasswordEncoderFactory >> calibrate -> {} cost: {}, hash time: {}ms", name, cost, elapsed.toMillis());
+            if (elapsed.compareTo(targetLatency) > 0) break;
+            selected = cost;
+        }
+        log.info("PasswordEncoderFactory >> calibrate -> Selected {} cost: {} for target latency: {}ms", name, selected, targetLatency.toMillis());
+        return selected;
+    }
+
+    private static Duration measure(PasswordEncoder passwordEncoder, int samples) {
+        long total = 0;
+        for (int sample = 0; sample < samples; sample++) {
+            long start = System.nanoTime();
+            passwordEncoder.encode(CALIBRATION_PASSWORD);
+            total += System.nanoTime() - start;
+        }
+        return Duration.ofNanos(total / Math.max(1, samples));
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: PasswordHashingExecutor
+ */
+
+import com.revquix.sm.application.exception.AuthenticationException;
+import com.revquix.sm.application.exception.ErrorData;
+import com.revquix.sm.application.exception.InternalServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordHashingExecutor runs CPU bound password hashing and verification on a dedicated pool
+ * sized to the available processors, so that a burst of logins cannot occupy every request thread
+ * with BCrypt work. The pool has a bounded queue and rejects work once it is full; the caller then
+ * fails fast with a retryable 503 instead of queueing behind the burst. Pool usage is exposed through
+ * the executor metrics under the name passwordHashing together with a saturation gauge and a
+ * rejection counter.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final String EXECUTOR_NAME = "passwordHashing";
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService executorService;
+    private final Duration awaitTimeout;
+    private final Duration retryAfter;
+    private final Duration shutdownTimeout;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${password-hashing.executor.pool-size:0}") int poolSize,
+                                   @Value("${password-hashing.executor.queue-capacity:64}") int queueCapacity,
+                                   @Value("${password-hashing.executor.await-timeout:10s}") Duration awaitTimeout,
+                                   @Value("${password-hashing.executor.retry-after:1s}") Duration retryAfter,
+                                   @Value("${password-hashing.executor.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        log.info("Creating PasswordHashingExecutor with poolSize: {}, queueCapacity: {}", threads, queueCapacity);
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+        this.awaitTimeout = awaitTimeout;
+        this.retryAfter = retryAfter;
+        this.shutdownTimeout = shutdownTimeout;
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").description("Password hashing tasks rejected because the pool queue was full").register(meterRegistry);
+        Gauge.builder("password.hashing.saturation", threadPoolExecutor, executor ->
+                        (double) (executor.getActiveCount() + executor.getQueue().size()) / (executor.getMaximumPoolSize() + queueCapacity))
+                .description("Fraction of password hashing threads and queue slots in use")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the password hashing pool and waits for its result.
+     *
+     * @param task The hashing or verification work.
+     * @return The result of the task.
+     * @throws AuthenticationException with 503 and a Retry-After hint if the pool is saturated or the task does not complete in time.
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executorService.submit(task);
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            log.warn("{} >> execute -> Password hashing pool is saturated, rejecting task", getClass().getSimpleName());
+            throw busy();
+        }
+        try {
+            return future.get(awaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            log.warn("{} >> execute -> Password hashing task did not complete within {}", getClass().getSimpleName(), awaitTimeout);
+            throw busy();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new InternalServerException(ErrorData.INTERNAL_ERROR, exception.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        log.info("Shutting down PasswordHashingExecutor gracefully");
+        threadPoolExecutor.shutdown();
+        if (!threadPoolExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS))
+            threadPoolExecutor.shutdownNow();
+    }
+
+    private AuthenticationException busy() {
+        AuthenticationException exception = new AuthenticationException(ErrorData.PASSWORD_HASHING_BUSY, HttpStatus.SERVICE_UNAVAILABLE);
+        exception.setRetryAfter(retryAfter);
+        return exception;
+    }
+}
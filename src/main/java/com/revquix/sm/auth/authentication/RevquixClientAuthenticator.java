@@ -27,13 +27,12 @@
  */
 package com.revquix.sm.auth.authentication;
 
-import com.revquix.sm.auth.repository.ClientRepository;
 import com.revquix.sm.auth.enums.ClientStatus;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.AuthenticationException;
-import com.revquix.sm.auth.model.ClientAuth;
 import com.revquix.sm.auth.payload.record.LoginCredentials;
 import com.revquix.sm.auth.payload.record.LoginPrincipal;
+import com.revquix.sm.auth.payload.record.RegisteredClient;
 import com.revquix.sm.auth.payload.record.SSOAuthenticationPayload;
 import com.revquix.sm.application.utils.ValueCheckerUtil;
 import lombok.RequiredArgsConstructor;
@@ -51,54 +50,54 @@ import java.util.Date;
 
 /**
  * SanaClientAuthenticator is responsible for authenticating clients based on various credentials.
- * It interacts with the ClientRepository to retrieve client information and validate credentials.
+ * It resolves clients from the in-memory ClientAuthRegistry and validates their credentials.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RevquixClientAuthenticator {
 
-    private final ClientRepository clientRepository;
+    private final ClientAuthRegistry clientAuthRegistry;
 
-    public ClientAuth authenticateClient(LoginPrincipal loginPrincipal, LoginCredentials loginCredentials) {
+    public RegisteredClient authenticateClient(LoginPrincipal loginPrincipal, LoginCredentials loginCredentials) {
         log.info("{} >> authenticateClient (loginPrincipal, loginCredentials)", getClass().getSimpleName());
         ValueCheckerUtil.isValidUUID(loginPrincipal.clientId(), ()-> new AuthenticationException(ErrorData.INVALID_CLIENT_ID));
-        ClientAuth clientAuth = clientRepository.findById(loginPrincipal.clientId())
+        RegisteredClient registeredClient = clientAuthRegistry.find(loginPrincipal.clientId())
                 .orElseThrow(() -> new AuthenticationException(ErrorData.CLIENT_NOT_FOUND_ID));
-        Date expirationDate = clientAuth.getExpirationDate();
-        if (!loginCredentials.clientSecret().equals(clientAuth.getClientSecret()))
+        Date expirationDate = registeredClient.expirationDate();
+        if (!loginCredentials.clientSecret().equals(registeredClient.clientSecret()))
             throw new AuthenticationException(ErrorData.INVALID_CLIENT_SECRET);
         if (new Date().after(expirationDate)) throw new AuthenticationException(ErrorData.CLIENT_CREDENTIALS_EXPIRED);
-        validateClientStatus(clientAuth);
-        return clientAuth;
+        validateClientStatus(registeredClient);
+        return registeredClient;
     }
 
-    public ClientAuth authenticateClient(String clientId) {
+    public RegisteredClient authenticateClient(String clientId) {
         log.info("{} >> authenticateClient (clientId)", getClass().getSimpleName());
-        ClientAuth clientAuth = clientRepository.findById(clientId)
+        RegisteredClient registeredClient = clientAuthRegistry.find(clientId)
                 .orElseThrow(() -> new AuthenticationException(ErrorData.CLIENT_NOT_FOUND_ID));
-        Date expirationDate = clientAuth.getExpirationDate();
+        Date expirationDate = registeredClient.expirationDate();
         if (new Date().after(expirationDate)) throw new AuthenticationException(ErrorData.CLIENT_CREDENTIALS_EXPIRED);
-        validateClientStatus(clientAuth);
-        return clientAuth;
+        validateClientStatus(registeredClient);
+        return registeredClient;
     }
 
-    public ClientAuth authenticateClient(SSOAuthenticationPayload ssoAuthenticationPayload) {
+    public RegisteredClient authenticateClient(SSOAuthenticationPayload ssoAuthenticationPayload) {
         log.info("{} >> authenticateClient (clientId, clientSecret)", getClass().getSimpleName());
         String clientId = ssoAuthenticationPayload.clientId();
         ValueCheckerUtil.isValidUUID(clientId, ()-> new AuthenticationException(ErrorData.INVALID_CLIENT_ID));
-        ClientAuth clientAuth = clientRepository.findById(clientId)
+        RegisteredClient registeredClient = clientAuthRegistry.find(clientId)
                 .orElseThrow(() -> new AuthenticationException(ErrorData.CLIENT_NOT_FOUND_ID));
-        Date expirationDate = clientAuth.getExpirationDate();
-        if (!ssoAuthenticationPayload.clientSecret().equals(clientAuth.getClientSecret()))
+        Date expirationDate = registeredClient.expirationDate();
+        if (!ssoAuthenticationPayload.clientSecret().equals(registeredClient.clientSecret()))
             throw new AuthenticationException(ErrorData.INVALID_CLIENT_SECRET);
         if (new Date().after(expirationDate)) throw new AuthenticationException(ErrorData.CLIENT_CREDENTIALS_EXPIRED);
-        validateClientStatus(clientAuth);
-        return clientAuth;
+        validateClientStatus(registeredClient);
+        return registeredClient;
     }
 
-    private void validateClientStatus(ClientAuth clientAuth) {
-        ClientStatus clientStatus = clientAuth.getClientStatus();
+    private void validateClientStatus(RegisteredClient registeredClient) {
+        ClientStatus clientStatus = registeredClient.clientStatus();
         if (!clientStatus.equals(ClientStatus.ACTIVE))
             throw new AuthenticationException(ErrorData.CLIENT_STATUS_NOT_ACTIVE);
     }
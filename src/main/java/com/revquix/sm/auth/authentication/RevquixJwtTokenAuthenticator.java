@@ -43,17 +43,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Developer: Rohit Parihar
@@ -67,6 +61,7 @@ import java.util.stream.Stream;
  * It verifies the token type, authentication type, and performs additional
  * checks such as remote address validation and path authentication based
  * on the token's claims and application properties.
+ * The Jwt is expected to be already decoded and signature-verified by the caller.
  */
 @Component
 @RequiredArgsConstructor
@@ -74,38 +69,47 @@ import java.util.stream.Stream;
 public class RevquixJwtTokenAuthenticator {
 
     private final JwtTokenDecoder jwtTokenDecoder;
-    private final JwtDecoder jwtDecoder;
     private final AuthenticationProperties authenticationProperties;
-    private final AntPathMatcher antPathMatcher;
-    private final Environment environment;
+    private final ClientPathMatcherIndex clientPathMatcherIndex;
     private final IpUtils ipUtils;
 
-    public AuthIdentity authenticateToken(String token, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
+    /**
+     * Authenticates an already decoded and validated JWT.
+     *
+     * @param jwt                 The Jwt produced by the JwtDecoder in the filter.
+     * @param httpServletResponse The HTTP response used to write authentication errors.
+     * @param httpServletRequest  The HTTP request being authenticated.
+     * @return The AuthIdentity built from the token claims, or null if authentication failed.
+     */
+    public AuthIdentity authenticateToken(Jwt jwt, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
         log.info("{} >> authenticationToken", getClass().getSimpleName());
-        Jwt jwt = jwtDecoder.decode(token);
-        String authenticationType = jwtTokenDecoder.extractAuthenticationType(jwt);
         boolean isDone = authenticateTokenType(httpServletResponse, jwt);
         if (!isDone) return null;
-        AuthenticationType type = AuthenticationType.valueOf(authenticationType);
+        if (!jwtTokenDecoder.isSupportedAuthorityVersion(jwt)) {
+            log.error("Error -> {} >> Compact token was issued for a different authority registry", getClass().getSimpleName());
+            OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.MALFORMED_TOKEN, HttpStatus.UNAUTHORIZED, httpServletResponse);
+            return null;
+        }
+        AuthenticationType type = AuthenticationType.valueOf(jwtTokenDecoder.extractAuthenticationType(jwt));
         AuthIdentity authIdentity;
         if (type.equals(AuthenticationType.USER_LOGIN))
-            authIdentity = authenticateUserLoginType(jwt, httpServletResponse, httpServletRequest);
+            authIdentity = authenticateUserLoginType(jwt, type, httpServletResponse, httpServletRequest);
         else
-            authIdentity = authenticateClientLoginType(jwt, httpServletResponse, httpServletRequest);
+            authIdentity = authenticateClientLoginType(jwt, type, httpServletResponse, httpServletRequest);
         return authIdentity;
     }
 
-    private AuthIdentity authenticateClientLoginType(Jwt jwt, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
+    private AuthIdentity authenticateClientLoginType(Jwt jwt, AuthenticationType type, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
         log.info("{} >> authenticateClientLoginType", getClass().getSimpleName());
         boolean isPathAuthenticationDone = authenticatePaths(httpServletResponse, httpServletRequest);
         if (!isPathAuthenticationDone) return null;
-        AuthIdentity authIdentity = generateAuthIdentityClient(jwt);
+        AuthIdentity authIdentity = generateAuthIdentityClient(jwt, type);
         boolean isDone = authenticateRemoteAddress(authIdentity, httpServletRequest, httpServletResponse);
         if (!isDone) return null;
         return authIdentity;
     }
 
-    private AuthIdentity generateAuthIdentityClient(Jwt jwt) {
+    private AuthIdentity generateAuthIdentityClient(Jwt jwt, AuthenticationType type) {
         log.info("{} >> generateAuthIdentityClient", getClass().getSimpleName());
         return AuthIdentity
                 .builder()
@@ -115,8 +119,10 @@ public class RevquixJwtTokenAuthenticator {
                 .origins(jwtTokenDecoder.extractOrigins(jwt))
                 .clientType(ClientType.valueOf(jwtTokenDecoder.extractClientType(jwt)))
                 .authorities(jwtTokenDecoder.extractAuthorities(jwt))
-                .authenticationType(AuthenticationType.valueOf(jwtTokenDecoder.extractAuthenticationType(jwt)))
+                .authenticationType(type)
                 .remoteAddress(jwtTokenDecoder.extractRemoteAddress(jwt))
+                .roleSet(jwtTokenDecoder.extractRoleSet(jwt))
+                .scopeSet(jwtTokenDecoder.extractScopeSet(jwt))
                 .build();
     }
 
@@ -134,19 +140,8 @@ public class RevquixJwtTokenAuthenticator {
 
     private boolean authenticatePaths(HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
         log.info("{} >> Authenticating Paths", getClass().getSimpleName());
-        List<String> clientPaths = authenticationProperties.getExcludedPaths().getJwtPaths().getClientAuthenticationPaths();
-        List<String> excludePaths = authenticationProperties.getExcludedPaths().getJwtPaths().getExcludePaths();
-        List<String> allPaths = Stream.concat(clientPaths.stream(), excludePaths.stream()).collect(Collectors.toSet()).stream().toList();
         String requestURI = httpServletRequest.getRequestURI();
-        boolean isPathMatch = false;
-        for (String path : allPaths) {
-            String contextPath = environment.getProperty("server.servlet.context-path") != null ? environment.getProperty("server.servlet.context-path") : "";
-            boolean match = antPathMatcher.match(contextPath + path, requestURI);
-            if (match) {
-                isPathMatch = true;
-                break;
-            }
-        }
+        boolean isPathMatch = clientPathMatcherIndex.matches(requestURI);
         if (!isPathMatch) {
             log.error("Error -> {} >> Full User Authentication is required to access this resource -> path: {}", getClass().getSimpleName(), requestURI);
             OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.FULL_AUTHENTICATION_IS_REQUIRED, HttpStatus.UNAUTHORIZED, httpServletResponse);
@@ -155,9 +150,9 @@ public class RevquixJwtTokenAuthenticator {
         return true;
     }
 
-    private AuthIdentity authenticateUserLoginType(Jwt jwt, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
+    private AuthIdentity authenticateUserLoginType(Jwt jwt, AuthenticationType type, HttpServletResponse httpServletResponse, HttpServletRequest httpServletRequest) {
         log.info("{} >> authenticateUserLoginType", getClass().getSimpleName());
-        AuthIdentity authIdentity = generateAuthIdentityUser(jwt);
+        AuthIdentity authIdentity = generateAuthIdentityUser(jwt, type);
         boolean isDone = true;
         if (authenticationProperties.getJwt().getTokenData().getIsRemoteAddressAuthentication()) {
             isDone = authenticateRemoteAddress(authIdentity, httpServletRequest, httpServletResponse);
@@ -166,7 +161,7 @@ public class RevquixJwtTokenAuthenticator {
         return authIdentity;
     }
 
-    private AuthIdentity generateAuthIdentityUser(Jwt jwt) {
+    private AuthIdentity generateAuthIdentityUser(Jwt jwt, AuthenticationType type) {
         log.info("{} >> generateAuthIdentityUser", getClass().getSimpleName());
         return AuthIdentity
                 .builder()
@@ -180,8 +175,10 @@ public class RevquixJwtTokenAuthenticator {
                 .origins(jwtTokenDecoder.extractOrigins(jwt))
                 .clientType(ClientType.valueOf(jwtTokenDecoder.extractClientType(jwt)))
                 .authorities(jwtTokenDecoder.extractAuthorities(jwt))
-                .authenticationType(AuthenticationType.valueOf(jwtTokenDecoder.extractAuthenticationType(jwt)))
+                .authenticationType(type)
                 .remoteAddress(jwtTokenDecoder.extractRemoteAddress(jwt))
+                .roleSet(jwtTokenDecoder.extractRoleSet(jwt))
+                .scopeSet(jwtTokenDecoder.extractScopeSet(jwt))
                 .build();
     }
 
@@ -71,17 +71,18 @@ public class RevquixUserAuthenticator {
         if (entrypointType.equals(EntrypointType.email)) errorData = ErrorData.NO_USER_WITH_EMAIL;
         else if (entrypointType.equals(EntrypointType.username)) errorData = ErrorData.NO_USER_WITH_USERNAME;
         else errorData = ErrorData.NO_USER_WITH_MOBILE;
-        UserAuth userAuth = userAuthRepository.findByEmailOrUsernameOrMobile(loginPrincipal.entrypoint())
+        UserAuth userAuth = userAuthRepository.findByEntrypoint(loginPrincipal.entrypoint(), entrypointType)
                 .orElseThrow(() -> new AuthenticationException(errorData, HttpStatus.UNAUTHORIZED));
         if (!passwordEncoder.matches(loginCredentials.password(), userAuth.getPassword()))
             throw new AuthenticationException(ErrorData.INCORRECT_PASSWORD);
         validateForInactiveUser(userAuth);
+        upgradePasswordEncoding(userAuth, loginCredentials.password());
         return userAuth;
     }
 
     public UserAuth authenticateRefreshTokenUser(String userId) {
         log.info("{} -> authenticateRefreshTokenUser", getClass().getSimpleName());
-        UserAuth userAuth = userAuthRepository.findById(userId)
+        UserAuth userAuth = userAuthRepository.findWithRolesByUserId(userId)
                 .orElseThrow(() -> new AuthenticationException(ErrorData.USER_NOT_FOUND));
         validateForInactiveUser(userAuth);
         return userAuth;
@@ -94,6 +95,24 @@ public class RevquixUserAuthenticator {
         validateForInactiveUser(ssoAuthenticationPayload.userAuth());
     }
 
+    /**
+     * Rehashes the password with the current algorithm and cost when the stored hash is outdated.
+     * The raw password is only available at login, so this is the one place the upgrade can happen.
+     * A failed upgrade is logged and retried on the next login instead of failing this one.
+     */
+    private void upgradePasswordEncoding(UserAuth userAuth, String rawPassword) {
+        String currentPassword = userAuth.getPassword();
+        if (!passwordEncoder.upgradeEncoding(currentPassword)) return;
+        try {
+            String upgradedPassword = passwordEncoder.encode(rawPassword);
+            int updated = userAuthRepository.updatePassword(userAuth.getUserId(), currentPassword, upgradedPassword);
+            if (updated > 0) userAuth.setPassword(upgradedPassword);
+            log.info("{} -> upgradePasswordEncoding -> userId: {}, upgraded: {}", getClass().getSimpleName(), userAuth.getUserId(), updated > 0);
+        } catch (RuntimeException exception) {
+            log.warn("{} -> upgradePasswordEncoding -> Failed to rehash password for userId: {}", getClass().getSimpleName(), userAuth.getUserId(), exception);
+        }
+    }
+
     private static void validateForInactiveUser(UserAuth userDetails) {
         if (!userDetails.getIsEnabled()) {
             throw new AuthenticationException(ErrorData.USER_NOT_ENABLED);
@@ -67,7 +67,7 @@ public class RevquixUserDetailsService implements UserDetailsService {
         if (entrypointType.equals(EntrypointType.email)) errorData = ErrorData.NO_USER_WITH_EMAIL;
         else if (entrypointType.equals(EntrypointType.username)) errorData = ErrorData.NO_USER_WITH_USERNAME;
         else errorData = ErrorData.NO_USER_WITH_MOBILE;
-        UserAuth userAuth = userAuthRepository.findByEmailOrUsernameOrMobile(username)
+        UserAuth userAuth = userAuthRepository.findByEntrypoint(username, entrypointType)
                 .orElseThrow(() -> new AuthenticationException(errorData, HttpStatus.UNAUTHORIZED));
         return UserPrincipal.create(userAuth);
     }
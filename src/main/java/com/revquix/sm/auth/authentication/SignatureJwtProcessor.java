@@ -0,0 +1,108 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.authentication;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: SignatureJwtProcessor
+ */
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import com.revquix.sm.auth.payload.record.SigningKey;
+
+import java.text.ParseException;
+import java.util.Objects;
+
+/**
+ * SignatureJwtProcessor verifies signed JWTs with the key of the JwtKeyring named by the kid header,
+ * a single map lookup that reuses the verifier created with the key, instead of selecting the key and
+ * building a new verifier per token as DefaultJWTProcessor does. It supports RSA, EC and Ed25519 keys
+ * alike, which lets NimbusJwtDecoder verify EdDSA tokens that the JCA key based processor cannot handle.
+ * Claim validation is left to the validators of the NimbusJwtDecoder that wraps it.
+ */
+public class SignatureJwtProcessor implements JWTProcessor<SecurityContext> {
+
+    private final JwtKeyring jwtKeyring;
+
+    public SignatureJwtProcessor(JwtKeyring jwtKeyring) {
+        this.jwtKeyring = jwtKeyring;
+    }
+
+    @Override
+    public JWTClaimsSet process(String jwtString, SecurityContext context) throws ParseException, BadJOSEException, JOSEException {
+        return process(JWTParser.parse(jwtString), context);
+    }
+
+    @Override
+    public JWTClaimsSet process(JWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+        if (jwt instanceof SignedJWT signedJWT) return process(signedJWT, context);
+        if (jwt instanceof EncryptedJWT encryptedJWT) return process(encryptedJWT, context);
+        if (jwt instanceof PlainJWT plainJWT) return process(plainJWT, context);
+        throw new JOSEException("Unexpected JWT object type: " + jwt.getClass());
+    }
+
+    @Override
+    public JWTClaimsSet process(PlainJWT plainJWT, SecurityContext context) throws BadJOSEException {
+        throw new BadJOSEException("Unsecured (plain) JWTs are rejected");
+    }
+
+    @Override
+    public JWTClaimsSet process(SignedJWT signedJWT, SecurityContext context) throws BadJOSEException, JOSEException {
+        JWSHeader header = signedJWT.getHeader();
+        SigningKey signingKey = jwtKeyring.find(header.getKeyID());
+        if (Objects.isNull(signingKey)) throw new BadJOSEException("Signed JWT rejected: Unknown or retired key id " + header.getKeyID());
+        if (!header.getAlgorithm().equals(signingKey.jwk().getAlgorithm())) {
+            throw new BadJOSEException("Signed JWT rejected: Unexpected JWS algorithm " + header.getAlgorithm());
+        }
+        if (!signedJWT.verify(signingKey.verifier())) throw new BadJWSException("Signed JWT rejected: Invalid signature");
+        try {
+            return signedJWT.getJWTClaimsSet();
+        } catch (ParseException exception) {
+            throw new BadJWTException(exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public JWTClaimsSet process(EncryptedJWT encryptedJWT, SecurityContext context) throws BadJOSEException {
+        throw new BadJOSEException("Encrypted JWTs are rejected");
+    }
+}
@@ -34,9 +34,12 @@ package com.revquix.sm.auth.config;
   File: BloggiosAuthServerBeans
  */
 
+import com.revquix.sm.auth.authentication.BoundedPasswordEncoder;
+import com.revquix.sm.auth.authentication.PasswordEncoderFactory;
+import com.revquix.sm.auth.authentication.PasswordHashingExecutor;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.AntPathMatcher;
 
@@ -53,7 +56,7 @@ public class AuthBeans {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor, AuthenticationProperties authenticationProperties) {
+        return new BoundedPasswordEncoder(PasswordEncoderFactory.create(authenticationProperties.getPasswordEncoder()), passwordHashingExecutor);
     }
 }
@@ -0,0 +1,110 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.config;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: GeoIpConfiguration
+ */
+
+import com.revquix.sm.auth.feign.IPAPIFeign;
+import com.revquix.sm.auth.geoip.CachingGeoIpResolver;
+import com.revquix.sm.auth.geoip.FallbackGeoIpResolver;
+import com.revquix.sm.auth.geoip.GeoIpResolver;
+import com.revquix.sm.auth.geoip.OfflineGeoIpResolver;
+import com.revquix.sm.auth.geoip.RemoteGeoIpResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * GeoIpConfiguration sets up the GeoIpResolver used to enrich login history.
+ * The offline dataset is loaded once at startup; when remote fallback is enabled,
+ * addresses the dataset does not cover are resolved through IPAPIFeign behind a TTL cache
+ * with an optional Redis tier.
+ */
+@Configuration
+@Slf4j
+public class GeoIpConfiguration {
+
+    @Value("${geo-ip.database-location:file:./geoip/ip-country.csv}")
+    private String databaseLocation;
+
+    @Value("${geo-ip.remote-fallback-enabled:true}")
+    private boolean remoteFallbackEnabled;
+
+    @Value("${geo-ip.cache.maximum-size:100000}")
+    private long cacheMaximumSize;
+
+    @Value("${geo-ip.cache.time-to-live:24h}")
+    private Duration cacheTimeToLive;
+
+    @Value("${geo-ip.cache.redis-enabled:false}")
+    private boolean cacheRedisEnabled;
+
+    @Bean
+    public GeoIpResolver geoIpResolver(ResourceLoader resourceLoader,
+                                       IPAPIFeign ipapiFeign,
+                                       ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                       MeterRegistry meterRegistry) throws IOException {
+        OfflineGeoIpResolver offlineGeoIpResolver = loadOfflineResolver(resourceLoader.getResource(databaseLocation));
+        log.info("{} >> geoIpResolver -> Offline ranges: {}, remote fallback enabled: {}", getClass().getSimpleName(), offlineGeoIpResolver.size(), remoteFallbackEnabled);
+        if (!remoteFallbackEnabled) return offlineGeoIpResolver;
+        StringRedisTemplate redisTemplate = cacheRedisEnabled ? redisTemplateProvider.getObject() : null;
+        CachingGeoIpResolver remoteGeoIpResolver = new CachingGeoIpResolver(
+                new RemoteGeoIpResolver(ipapiFeign),
+                redisTemplate,
+                cacheMaximumSize,
+                cacheTimeToLive,
+                meterRegistry
+        );
+        return new FallbackGeoIpResolver(offlineGeoIpResolver, remoteGeoIpResolver);
+    }
+
+    private OfflineGeoIpResolver loadOfflineResolver(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            log.warn("{} >> loadOfflineResolver -> GeoIP dataset not found at {}", getClass().getSimpleName(), databaseLocation);
+            return OfflineGeoIpResolver.empty();
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return OfflineGeoIpResolver.load(inputStream);
+        }
+    }
+}
@@ -27,25 +27,17 @@
  */
 package com.revquix.sm.auth.config;
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import com.revquix.sm.auth.authentication.CachingJwtDecoder;
+import com.revquix.sm.auth.authentication.JwkFactory;
+import com.revquix.sm.auth.authentication.JwtKeyring;
 import com.revquix.sm.auth.authentication.KeyProvider;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 
 /**
  * Developer: Rohit Parihar
@@ -56,29 +48,45 @@ import java.security.interfaces.RSAPublicKey;
 
 /**
  * JwtConfiguration is a configuration class that sets up JWT encoding and decoding
- * using RSA keys provided by the KeyProvider. It defines beans for JwtEncoder and JwtDecoder
- * to be used in the application for handling JWT tokens.
+ * using the keyring of RSA, EC or Ed25519 keys provided by the KeyProvider. It defines beans for
+ * the JwtKeyring, JwtEncoder and JwtDecoder to be used in the application for handling JWT tokens,
+ * signing with RS256, ES256 or EdDSA according to the type of the active key and verifying by kid.
+ * The keyring follows every KeyMaterial reloaded by the KeyProvider.
+ * When the token cache is enabled, the JwtDecoder bean is wrapped in a CachingJwtDecoder
+ * so repeated requests with an already verified access token skip the signature verification.
  */
 @Configuration
 @RequiredArgsConstructor
 public class JwtConfiguration {
 
+    private static final String VERIFIED_TOKEN_CACHE = "jwtVerifiedTokens";
+
     private final KeyProvider keyProvider;
+    private final AuthenticationProperties authenticationProperties;
+
+    @Bean
+    public JwtKeyring jwtKeyring() {
+        JwtKeyring jwtKeyring = new JwtKeyring(keyProvider.getSigningKeys());
+        keyProvider.onReload(keyMaterial -> jwtKeyring.replace(keyMaterial.signingKeys()));
+        return jwtKeyring;
+    }
 
     @Bean
     public JwtEncoder jwtEncoder() {
-        PrivateKey privateKey = keyProvider.getPrivateKey();
-        PublicKey publicKey = keyProvider.getPublicKey();
-        JWK jwk = new RSAKey.Builder((RSAPublicKey) publicKey)
-                .privateKey((RSAPrivateKey) privateKey)
-                .build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        return JwkFactory.jwtEncoder(jwtKeyring());
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        PublicKey publicKey = keyProvider.getPublicKey();
-        return NimbusJwtDecoder.withPublicKey((RSAPublicKey) publicKey).build();
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        JwtDecoder jwtDecoder = nimbusJwtDecoder();
+        AuthenticationProperties.TokenCache tokenCache = authenticationProperties.getJwt().getTokenCache();
+        if (!tokenCache.isEnabled()) return jwtDecoder;
+        CachingJwtDecoder cachingJwtDecoder = new CachingJwtDecoder(jwtDecoder, tokenCache.getMaximumSize());
+        cachingJwtDecoder.bindTo(meterRegistry, VERIFIED_TOKEN_CACHE);
+        return cachingJwtDecoder;
+    }
+
+    public JwtDecoder nimbusJwtDecoder() {
+        return JwkFactory.jwtDecoder(jwtKeyring());
     }
 }
@@ -37,6 +37,7 @@ package com.revquix.sm.auth.config;
 import com.revquix.sm.application.config.ApplicationMDCFilter;
 import com.revquix.sm.auth.authentication.*;
 import com.revquix.sm.auth.properties.AuthenticationProperties;
+import com.revquix.sm.auth.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -76,6 +77,7 @@ public class WebSecurityConfiguration {
     private final RevquixAccessDeniedHandler revquixAccessDeniedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final ApplicationMDCFilter applicationMDCFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
@@ -101,6 +103,7 @@ public class WebSecurityConfiguration {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable);
         http.addFilterBefore(applicationMDCFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
@@ -0,0 +1,101 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.controller;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwksController
+ */
+
+import com.revquix.sm.auth.authentication.JwtKeyring;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+/**
+ * Publishes the public keys of the JwtKeyring as a JWK set so resource servers can verify
+ * access tokens locally by kid. The response carries an ETag and a public Cache-Control max-age,
+ * and conditional requests with a matching If-None-Match are answered with 304 Not Modified.
+ */
+@Tag(name = "JWKS", description = "Public keys for verifying issued tokens")
+@RestController
+@RequestMapping("/.well-known")
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyring jwtKeyring;
+    private final AuthenticationProperties authenticationProperties;
+
+    @Operation(
+            summary = "JSON Web Key Set",
+            description = "Returns the public keys that verify the tokens issued by this service, identified by kid.",
+            tags = {"JWKS"},
+            operationId = "jwks",
+            responses = {
+                    @ApiResponse(description = "SUCCESS", responseCode = "200", content = @Content(
+                            mediaType = "application/json", schema = @Schema(implementation = String.class)
+                    )),
+                    @ApiResponse(description = "Not Modified", responseCode = "304", content = {
+                            @Content(schema = @Schema())
+                    })
+            }
+    )
+    @GetMapping(value = "/jwks.json", produces = "application/json")
+    ResponseEntity<String> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        JwtKeyring.PublishedJwkSet publishedJwkSet = jwtKeyring.publishedJwkSet();
+        CacheControl cacheControl = CacheControl.maxAge(authenticationProperties.getJwt().getJwksCacheMaxAge()).cachePublic();
+        if (Objects.nonNull(ifNoneMatch) && ifNoneMatch.contains(publishedJwkSet.eTag())) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(publishedJwkSet.eTag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity
+                .ok()
+                .eTag(publishedJwkSet.eTag())
+                .cacheControl(cacheControl)
+                .body(publishedJwkSet.json());
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.enums;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JwtKeyType
+ */
+
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Enum representing the type of key used to sign JWTs, and the JWS algorithm each one signs with.
+ */
+public enum JwtKeyType implements JwsAlgorithm {
+
+    RSA("RS256", Set.of("RSA")),
+    EC("ES256", Set.of("EC")),
+    ED25519("EdDSA", Set.of("Ed25519", "EdDSA"));
+
+    private final String algorithm;
+    private final Set<String> keyAlgorithms;
+
+    JwtKeyType(String algorithm, Set<String> keyAlgorithms) {
+        this.algorithm = algorithm;
+        this.keyAlgorithms = keyAlgorithms;
+    }
+
+    @Override
+    public String getName() {
+        return algorithm;
+    }
+
+    public static JwtKeyType fromAlgorithm(String algorithm) {
+        return Arrays
+                .stream(values())
+                .filter(keyType -> keyType.algorithm.equals(algorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported JWS algorithm " + algorithm));
+    }
+
+    /**
+     * Resolves the key type from the algorithm name reported by a java.security.Key,
+     * or null when the key cannot sign JWTs.
+     */
+    public static JwtKeyType fromKeyAlgorithm(String keyAlgorithm) {
+        return Arrays
+                .stream(values())
+                .filter(keyType -> keyType.keyAlgorithms.contains(keyAlgorithm))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -39,5 +39,7 @@ package com.revquix.sm.auth.enums;
  */
 public enum RefreshTokenStatus {
 
-    ACTIVE
+    ACTIVE,
+    ROTATED,
+    REVOKED
 }
@@ -34,20 +34,20 @@ package com.revquix.sm.auth.events;
   File: ForgotPasswordOtpEvent
  */
 
-import com.revquix.sm.auth.model.UserAuth;
+import com.revquix.sm.auth.payload.record.UserAuthOtpView;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 /**
  * Event triggered when a user requests a forgot password OTP.
- * This event carries the UserAuth object associated with the request.
+ * This event carries the UserAuthOtpView associated with the request.
  */
 @Getter
 public class ForgotPasswordOtpEvent extends ApplicationEvent {
 
-    private final UserAuth userAuth;
+    private final UserAuthOtpView userAuth;
 
-    public ForgotPasswordOtpEvent(UserAuth userAuth) {
+    public ForgotPasswordOtpEvent(UserAuthOtpView userAuth) {
         super(userAuth);
         this.userAuth = userAuth;
     }
@@ -35,21 +35,21 @@ package com.revquix.sm.auth.events;
  */
 
 import com.revquix.sm.auth.model.OtpEntity;
-import com.revquix.sm.auth.model.UserAuth;
+import com.revquix.sm.auth.payload.record.UserAuthOtpView;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 /**
  * Event triggered when a user requests to resend the OTP for registration.
- * This event carries the UserAuth object and the OtpEntity associated with the request.
+ * This event carries the UserAuthOtpView and the OtpEntity associated with the request.
  */
 @Getter
 public class UserRegistrationResendOtpEvent extends ApplicationEvent {
 
-    private final UserAuth userAuth;
+    private final UserAuthOtpView userAuth;
     private final OtpEntity otpEntity;
 
-    public UserRegistrationResendOtpEvent(UserAuth userAuth, OtpEntity otpEntity) {
+    public UserRegistrationResendOtpEvent(UserAuthOtpView userAuth, OtpEntity otpEntity) {
         super(userAuth);
         this.userAuth = userAuth;
         this.otpEntity = otpEntity;
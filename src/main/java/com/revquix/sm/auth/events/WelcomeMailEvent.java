@@ -34,15 +34,15 @@ package com.revquix.sm.auth.events;
   File: WelcomeMailEvent
  */
 
-import com.revquix.sm.auth.model.UserAuth;
+import com.revquix.sm.auth.payload.record.UserAuthOtpView;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
 public class WelcomeMailEvent extends ApplicationEvent {
-    private final UserAuth userAuth;
+    private final UserAuthOtpView userAuth;
 
-    public WelcomeMailEvent(UserAuth userAuth) {
+    public WelcomeMailEvent(UserAuthOtpView userAuth) {
         super(userAuth);
         this.userAuth = userAuth;
     }
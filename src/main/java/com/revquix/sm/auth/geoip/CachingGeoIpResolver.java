@@ -0,0 +1,126 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.geoip;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: CachingGeoIpResolver
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * CachingGeoIpResolver decorates a GeoIpResolver with a bounded TTL cache of resolved countries,
+ * backed by an optional Redis tier shared between instances. Unresolved addresses are not cached
+ * so a transient lookup failure is retried on the next login. Lookups are not coalesced: the only
+ * caller is the single drainer thread of LoginHistoryWriter, so two lookups never overlap.
+ */
+@Slf4j
+public class CachingGeoIpResolver implements GeoIpResolver {
+
+    private static final String CACHE_NAME = "geoIpCountries";
+    private static final String REDIS_KEY_PREFIX = "geoip:country:";
+
+    private final GeoIpResolver delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration timeToLive;
+    private final Cache<String, String> cache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter redisErrorCounter;
+
+    /**
+     * @param delegate      The resolver consulted when both cache tiers miss.
+     * @param redisTemplate The Redis tier, or null to use the local cache only.
+     * @param maximumSize   The maximum number of addresses held in the local cache.
+     * @param timeToLive    How long a resolved country is kept in either tier.
+     * @param meterRegistry The registry the cache metrics are published to.
+     */
+    public CachingGeoIpResolver(GeoIpResolver delegate, StringRedisTemplate redisTemplate, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.timeToLive = timeToLive;
+        this.cache = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.redisHitCounter = Counter.builder("geoip.lookup.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMissCounter = Counter.builder("geoip.lookup.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrorCounter = Counter.builder("geoip.lookup.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    @Override
+    public Optional<String> resolveCountry(String ipAddress) {
+        String cachedCountry = cache.getIfPresent(ipAddress);
+        if (Objects.nonNull(cachedCountry)) return Optional.of(cachedCountry);
+        Optional<String> country = loadCountry(ipAddress);
+        country.ifPresent(value -> cache.put(ipAddress, value));
+        return country;
+    }
+
+    private Optional<String> loadCountry(String ipAddress) {
+        if (Objects.isNull(redisTemplate)) return delegate.resolveCountry(ipAddress);
+        String key = REDIS_KEY_PREFIX + ipAddress;
+        try {
+            String country = redisTemplate.opsForValue().get(key);
+            if (Objects.nonNull(country)) {
+                redisHitCounter.increment();
+                return Optional.of(country);
+            }
+            redisMissCounter.increment();
+        } catch (RuntimeException exception) {
+            redisErrorCounter.increment();
+            log.warn("{} >> loadCountry -> Redis lookup failed for {}: {}", getClass().getSimpleName(), ipAddress, exception.getMessage());
+        }
+        Optional<String> country = delegate.resolveCountry(ipAddress);
+        country.ifPresent(value -> {
+            try {
+                redisTemplate.opsForValue().set(key, value, timeToLive);
+            } catch (RuntimeException exception) {
+                redisErrorCounter.increment();
+                log.warn("{} >> loadCountry -> Redis write failed for {}: {}", getClass().getSimpleName(), ipAddress, exception.getMessage());
+            }
+        });
+        return country;
+    }
+}
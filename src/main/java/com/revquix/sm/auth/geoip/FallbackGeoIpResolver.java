@@ -0,0 +1,56 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.geoip;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: FallbackGeoIpResolver
+ */
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * FallbackGeoIpResolver consults the fallback resolver only when the primary resolver
+ * cannot resolve the address.
+ */
+@RequiredArgsConstructor
+public class FallbackGeoIpResolver implements GeoIpResolver {
+
+    private final GeoIpResolver primary;
+    private final GeoIpResolver fallback;
+
+    @Override
+    public Optional<String> resolveCountry(String ipAddress) {
+        Optional<String> country = primary.resolveCountry(ipAddress);
+        return country.isPresent() ? country : fallback.resolveCountry(ipAddress);
+    }
+}
@@ -0,0 +1,367 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.geoip;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: OfflineGeoIpResolver
+ */
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OfflineGeoIpResolver resolves countries from a local CIDR-to-country dataset held in memory.
+ * Each line of the dataset has the form {@code <cidr>,<country>}; blank lines and lines starting
+ * with {@code #} are ignored. IPv4 ranges are kept in sorted int arrays and IPv6 ranges in sorted
+ * pairs of long arrays, both with the sign bit flipped so signed comparison follows address order,
+ * and a lookup is a single binary search. Ranges overlapping an earlier range are skipped.
+ */
+@Slf4j
+public class OfflineGeoIpResolver implements GeoIpResolver {
+
+    private final String[] countries;
+    private final int[] ipv4Starts;
+    private final int[] ipv4Ends;
+    private final short[] ipv4Countries;
+    private final long[] ipv6StartsHigh;
+    private final long[] ipv6StartsLow;
+    private final long[] ipv6EndsHigh;
+    private final long[] ipv6EndsLow;
+    private final short[] ipv6Countries;
+
+    private OfflineGeoIpResolver(String[] countries, List<Ipv4Range> ipv4Ranges, List<Ipv6Range> ipv6Ranges) {
+        this.countries = countries;
+        this.ipv4Starts = new int[ipv4Ranges.size()];
+        this.ipv4Ends = new int[ipv4Ranges.size()];
+        this.ipv4Countries = new short[ipv4Ranges.size()];
+        for (int i = 0; i < ipv4Ranges.size(); i++) {
+            Ipv4Range range = ipv4Ranges.get(i);
+            ipv4Starts[i] = range.start();
+            ipv4Ends[i] = range.end();
+            ipv4Countries[i] = range.country();
+        }
+        this.ipv6StartsHigh = new long[ipv6Ranges.size()];
+        this.ipv6StartsLow = new long[ipv6Ranges.size()];
+        this.ipv6EndsHigh = new long[ipv6Ranges.size()];
+        this.ipv6EndsLow = new long[ipv6Ranges.size()];
+        this.ipv6Countries = new short[ipv6Ranges.size()];
+        for (int i = 0; i < ipv6Ranges.size(); i++) {
+            Ipv6Range range = ipv6Ranges.get(i);
+            ipv6StartsHigh[i] = range.startHigh();
+            ipv6StartsLow[i] = range.startLow();
+            ipv6EndsHigh[i] = range.endHigh();
+            ipv6EndsLow[i] = range.endLow();
+            ipv6Countries[i] = range.country();
+        }
+    }
+
+    /**
+     * Creates a resolver without any ranges, used when no dataset is available.
+     *
+     * @return A resolver that never resolves an address.
+     */
+    public static OfflineGeoIpResolver empty() {
+        return new OfflineGeoIpResolver(new String[0], List.of(), List.of());
+    }
+
+    /**
+     * Loads a CIDR-to-country dataset.
+     *
+     * @param inputStream The UTF-8 dataset, closed by the caller.
+     * @return The resolver holding the loaded ranges.
+     * @throws IOException If the dataset cannot be read.
+     */
+    public static OfflineGeoIpResolver load(InputStream inputStream) throws IOException {
+        Map<String, Short> countryIndex = new HashMap<>();
+        List<String> countryNames = new ArrayList<>();
+        List<Ipv4Range> ipv4Ranges = new ArrayList<>();
+        List<Ipv6Range> ipv6Ranges = new ArrayList<>();
+        int invalidLines = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            int separator = line.indexOf(',');
+            int prefixSeparator = line.indexOf('/');
+            if (separator < 0 || prefixSeparator < 0 || prefixSeparator > separator) {
+                invalidLines++;
+                continue;
+            }
+            String country = unquote(line.substring(separator + 1).strip());
+            String address = line.substring(0, prefixSeparator).strip();
+            int prefix;
+            try {
+                prefix = Integer.parseInt(line.substring(prefixSeparator + 1, separator).strip());
+            } catch (NumberFormatException exception) {
+                invalidLines++;
+                continue;
+            }
+            try {
+                long ipv4 = parseIpv4(address);
+                if (ipv4 >= 0 && prefix >= 0 && prefix <= 32) {
+                    long mask = prefix == 0 ? 0L : (0xFFFFFFFFL << (32 - prefix)) & 0xFFFFFFFFL;
+                    long start = ipv4 & mask;
+                    long end = start | (~mask & 0xFFFFFFFFL);
+                    ipv4Ranges.add(new Ipv4Range(toIpv4Key(start), toIpv4Key(end), countryIndex(country, countryIndex, countryNames)));
+                    continue;
+                }
+                byte[] ipv6 = toIpv6Bytes(parseIpv6(address));
+                if (ipv6 != null && prefix >= 0 && prefix <= 128) {
+                    long high = toLong(ipv6, 0);
+                    long low = toLong(ipv6, 8);
+                    long highMask = prefix >= 64 ? -1L : prefix == 0 ? 0L : -1L << (64 - prefix);
+                    long lowMask = prefix <= 64 ? 0L : prefix == 128 ? -1L : -1L << (128 - prefix);
+                    ipv6Ranges.add(new Ipv6Range(
+                            (high & highMask) ^ Long.MIN_VALUE,
+                            (low & lowMask) ^ Long.MIN_VALUE,
+                            (high | ~highMask) ^ Long.MIN_VALUE,
+                            (low | ~lowMask) ^ Long.MIN_VALUE,
+                            countryIndex(country, countryIndex, countryNames)
+                    ));
+                    continue;
+                }
+            } catch (RuntimeException exception) {
+                log.warn("OfflineGeoIpResolver >> load -> Skipping malformed line: {}", line, exception);
+            }
+            invalidLines++;
+        }
+        List<Ipv4Range> sortedIpv4Ranges = removeOverlappingIpv4(ipv4Ranges);
+        List<Ipv6Range> sortedIpv6Ranges = removeOverlappingIpv6(ipv6Ranges);
+        log.info("OfflineGeoIpResolver >> load -> Loaded {} IPv4 ranges, {} IPv6 ranges, {} countries, skipped {} invalid and {} overlapping lines",
+                sortedIpv4Ranges.size(), sortedIpv6Ranges.size(), countryNames.size(), invalidLines,
+                ipv4Ranges.size() - sortedIpv4Ranges.size() + ipv6Ranges.size() - sortedIpv6Ranges.size());
+        return new OfflineGeoIpResolver(countryNames.toArray(String[]::new), sortedIpv4Ranges, sortedIpv6Ranges);
+    }
+
+    @Override
+    public Optional<String> resolveCountry(String ipAddress) {
+        if (ipAddress == null || ipAddress.isEmpty()) return Optional.empty();
+        long ipv4 = parseIpv4(ipAddress);
+        if (ipv4 >= 0) return resolveIpv4(toIpv4Key(ipv4));
+        byte[] ipv6 = parseIpv6(ipAddress);
+        if (ipv6 == null) return Optional.empty();
+        if (ipv6.length == 4) return resolveIpv4(toIpv4Key(toUnsignedInt(ipv6)));
+        return resolveIpv6(toLong(ipv6, 0) ^ Long.MIN_VALUE, toLong(ipv6, 8) ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * @return The number of IPv4 and IPv6 ranges held by this resolver.
+     */
+    public int size() {
+        return ipv4Starts.length + ipv6StartsHigh.length;
+    }
+
+    private Optional<String> resolveIpv4(int key) {
+        int low = 0;
+        int high = ipv4Starts.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ipv4Starts[middle] <= key) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate < 0 || key > ipv4Ends[candidate]) return Optional.empty();
+        return Optional.of(countries[ipv4Countries[candidate]]);
+    }
+
+    private Optional<String> resolveIpv6(long keyHigh, long keyLow) {
+        int low = 0;
+        int high = ipv6StartsHigh.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lessOrEqual(ipv6StartsHigh[middle], ipv6StartsLow[middle], keyHigh, keyLow)) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate < 0 || !lessOrEqual(keyHigh, keyLow, ipv6EndsHigh[candidate], ipv6EndsLow[candidate])) return Optional.empty();
+        return Optional.of(countries[ipv6Countries[candidate]]);
+    }
+
+    private static List<Ipv4Range> removeOverlappingIpv4(List<Ipv4Range> ranges) {
+        List<Ipv4Range> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingInt(Ipv4Range::start));
+        List<Ipv4Range> result = new ArrayList<>(sorted.size());
+        for (Ipv4Range range : sorted) {
+            if (!result.isEmpty() && range.start() <= result.get(result.size() - 1).end()) continue;
+            result.add(range);
+        }
+        return result;
+    }
+
+    private static List<Ipv6Range> removeOverlappingIpv6(List<Ipv6Range> ranges) {
+        List<Ipv6Range> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(Ipv6Range::startHigh).thenComparingLong(Ipv6Range::startLow));
+        List<Ipv6Range> result = new ArrayList<>(sorted.size());
+        for (Ipv6Range range : sorted) {
+            if (!result.isEmpty()) {
+                Ipv6Range previous = result.get(result.size() - 1);
+                if (lessOrEqual(range.startHigh(), range.startLow(), previous.endHigh(), previous.endLow())) continue;
+            }
+            result.add(range);
+        }
+        return result;
+    }
+
+    private static boolean lessOrEqual(long aHigh, long aLow, long bHigh, long bLow) {
+        return aHigh < bHigh || (aHigh == bHigh && aLow <= bLow);
+    }
+
+    private static int toIpv4Key(long ipv4) {
+        return (int) ipv4 ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address without any DNS resolution.
+     *
+     * @return The address as an unsigned 32-bit value, or -1 if it is not a valid IPv4 literal.
+     */
+    private static long parseIpv4(String address) {
+        long result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) return -1;
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                result = (result << 8) | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || digits == 0) return -1;
+        return (result << 8) | octet;
+    }
+
+    /**
+     * Parses an IPv6 literal. Strings without a colon, or with any character outside hex digits,
+     * colons and dots, are rejected up front: InetAddress.getByName resolves anything else, such as
+     * g::1, through DNS.
+     *
+     * @return The 16 address bytes, the 4 bytes of an IPv4-mapped address, or null if invalid.
+     */
+    private static byte[] parseIpv6(String address) {
+        if (address.indexOf(':') < 0) return null;
+        String literal = address.startsWith("[") && address.endsWith("]") ? address.substring(1, address.length() - 1) : address;
+        for (int index = 0; index < literal.length(); index++) {
+            if (!isIpv6LiteralCharacter(literal.charAt(index))) return null;
+        }
+        try {
+            InetAddress inetAddress = InetAddress.getByName(literal);
+            if (inetAddress instanceof Inet6Address || inetAddress instanceof Inet4Address) return inetAddress.getAddress();
+        } catch (UnknownHostException exception) {
+            return null;
+        }
+        return null;
+    }
+
+    private static boolean isIpv6LiteralCharacter(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == ':' || c == '.';
+    }
+
+    /*
+     * Registers a country the first time a valid line names it, so skipped lines add no unused names.
+     */
+    private static short countryIndex(String country, Map<String, Short> countryIndex, List<String> countryNames) {
+        return countryIndex.computeIfAbsent(country, key -> {
+            countryNames.add(key);
+            return (short) (countryNames.size() - 1);
+        });
+    }
+
+    /**
+     * Expands the 4 bytes parseIpv6 returns for an IPv4-mapped literal such as ::ffff:0:0/96 back to
+     * the 16-byte ::ffff:a.b.c.d form, so the range is loaded as the IPv6 range the dataset wrote.
+     * Lookups of IPv4-mapped addresses are answered from the IPv4 ranges, as in resolveCountry.
+     *
+     * @return The 16 address bytes, or null if the address is null.
+     */
+    private static byte[] toIpv6Bytes(byte[] address) {
+        if (address == null || address.length == 16) return address;
+        byte[] mapped = new byte[16];
+        mapped[10] = (byte) 0xFF;
+        mapped[11] = (byte) 0xFF;
+        System.arraycopy(address, 0, mapped, 12, 4);
+        return mapped;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFFL);
+        }
+        return value;
+    }
+
+    private static long toUnsignedInt(byte[] bytes) {
+        return ((bytes[0] & 0xFFL) << 24) | ((bytes[1] & 0xFFL) << 16) | ((bytes[2] & 0xFFL) << 8) | (bytes[3] & 0xFFL);
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') return value.substring(1, value.length() - 1);
+        return value;
+    }
+
+    private record Ipv4Range(int start, int end, short country) {
+    }
+
+    private record Ipv6Range(long startHigh, long startLow, long endHigh, long endLow, short country) {
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.geoip;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RemoteGeoIpResolver
+ */
+
+import com.revquix.sm.auth.feign.IPAPIFeign;
+import com.revquix.sm.auth.payload.response.IPResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * RemoteGeoIpResolver resolves countries through the ip-api.com service using IPAPIFeign.
+ * It is only used as a fallback for addresses the offline dataset does not cover.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RemoteGeoIpResolver implements GeoIpResolver {
+
+    private static final String IP_LOOKUP_SUCCESS = "success";
+
+    private final IPAPIFeign ipapiFeign;
+
+    @Override
+    public Optional<String> resolveCountry(String ipAddress) {
+        log.info("{} >> resolveCountry -> Calling External API to get details of IP Address, ipAddress: {}", getClass().getSimpleName(), ipAddress);
+        try {
+            IPResponse ipDetails = ipapiFeign.getDetails(ipAddress);
+            if (Objects.nonNull(ipDetails) && IP_LOOKUP_SUCCESS.equalsIgnoreCase(ipDetails.getStatus())) return Optional.ofNullable(ipDetails.getCountry());
+            log.warn("{} >> resolveCountry -> Error retrieving details of IP Address: {}", getClass().getSimpleName(), ipAddress);
+        } catch (RuntimeException exception) {
+            log.warn("{} >> resolveCountry -> IP lookup failed for {}: {}", getClass().getSimpleName(), ipAddress, exception.getMessage());
+        }
+        return Optional.empty();
+    }
+}
@@ -34,6 +34,9 @@ import com.revquix.sm.auth.enums.AuthenticationType;
 import com.revquix.sm.auth.enums.EntrypointType;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.AuthenticationException;
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+import com.revquix.sm.auth.payload.record.AuthorityRequirement;
+import com.revquix.sm.auth.payload.record.AuthoritySet;
 import com.revquix.sm.auth.payload.request.AuthenticateRequest;
 import com.revquix.sm.auth.properties.AuthorizationProperties;
 import com.revquix.sm.auth.utils.EntrypointTypeUtil;
@@ -51,6 +54,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Developer: Rohit Parihar
@@ -72,6 +76,8 @@ public class AuthenticateValidator {
     private final EmailValidator emailValidator;
     private final MobileNumberValidator mobileNumberValidator;
     private final AuthorizationProperties authorizationProperties;
+    private final AuthorityGraph authorityGraph;
+    private final Map<String, AuthorityRequirement> requirements = new ConcurrentHashMap<>();
 
     /**
      * Validates the given AuthenticateRequest.
@@ -121,9 +127,20 @@ public class AuthenticateValidator {
             throw new AuthenticationException(ErrorData.AUTHORITIES_MISSING);
     }
 
+    /*
+     * Identities whose roles and scopes are all indexed by the AuthorityGraph, which includes every compact
+     * token, are checked against the compiled masks; the others compare the authority lists.
+     */
     private boolean checkAllAuthoritiesContain(AuthIdentity authIdentity) {
         Map<String, List<String>> rolesToAllow = authorizationProperties.getJwt().getRolesToAllow();
-        List<String> requiredAuthorities = rolesToAllow.get(authIdentity.getAuthenticationType().equals(AuthenticationType.USER_LOGIN) ? "development" : "clientDevelopment");
+        String requirementKey = authIdentity.getAuthenticationType().equals(AuthenticationType.USER_LOGIN) ? "development" : "clientDevelopment";
+        List<String> requiredAuthorities = rolesToAllow.get(requirementKey);
+        AuthoritySet roleSet = authIdentity.getRoleSet();
+        AuthoritySet scopeSet = authIdentity.getScopeSet();
+        if (Objects.nonNull(roleSet) && Objects.nonNull(scopeSet) && roleSet.indexed() && scopeSet.indexed())
+            return requirements
+                    .computeIfAbsent(requirementKey, key -> authorityGraph.requirement(requiredAuthorities))
+                    .isSatisfiedBy(roleSet.mask(), scopeSet.mask());
         List<String> authenticatedAuthorities = authIdentity.getAuthorities()
                 .stream()
                 .map(GrantedAuthority::getAuthority)
@@ -28,7 +28,7 @@
 package com.revquix.sm.auth.guardrails;
 
 import com.revquix.sm.auth.authentication.JwtTokenDecoder;
-import com.revquix.sm.auth.repository.RefreshTokenRepository;
+import com.revquix.sm.auth.enums.AuthenticationType;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.AuthenticationException;
 import com.revquix.sm.auth.model.RefreshToken;
@@ -55,29 +55,30 @@ import org.springframework.stereotype.Component;
 public class RefreshTokenValidator {
 
     private final JwtTokenDecoder jwtTokenDecoder;
-    private final RefreshTokenRepository refreshTokenRepository;
     private final IpUtils ipUtils;
 
     /**
-     * Validates the provided JWT refresh token.
+     * Validates the provided JWT refresh token. The token is not redeemed here; it is consumed
+     * by the RefreshTokenStore when the replacement token is stored.
      *
      * @param jwt The JWT to be validated.
      * @param httpServletRequest The HTTP request containing the token.
-     * @return The corresponding RefreshToken if valid.
+     * @return The RefreshToken described by the signed claims of the JWT.
      * @throws AuthenticationException if the token is invalid or any validation fails.
      */
     public RefreshToken validate(Jwt jwt, HttpServletRequest httpServletRequest) {
         log.info("{} >> validate", getClass().getSimpleName());
-        String jti = jwtTokenDecoder.extractJti(jwt);
-        RefreshToken refreshToken = refreshTokenRepository.findByJti(jti)
-                .orElseThrow(() -> new AuthenticationException(ErrorData.REFRESH_TOKEN_EXCEPTION));
-        log.info("{} >> validate -> Deleting Refresh Token", getClass().getSimpleName());
         String remoteAddress = jwtTokenDecoder.extractRemoteAddress(jwt);
         String currentAddress = ipUtils.getRemoteAddress();
         if (!remoteAddress.equals(currentAddress)) {
             throw new AuthenticationException(ErrorData.REMOTE_ADDRESS_AUTHENTICATION_FAILED);
         }
-        refreshTokenRepository.delete(refreshToken);
-        return refreshToken;
+        return RefreshToken
+                .builder()
+                .jti(jwtTokenDecoder.extractJti(jwt))
+                .clientId(jwtTokenDecoder.extractClientId(jwt))
+                .userId(jwtTokenDecoder.extractUserId(jwt))
+                .authenticationType(AuthenticationType.valueOf(jwtTokenDecoder.extractAuthenticationType(jwt)))
+                .build();
     }
 }
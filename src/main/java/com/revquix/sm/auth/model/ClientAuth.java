@@ -95,7 +95,7 @@ public class ClientAuth {
     private Date expirationDate;
 
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             schema = ModelConstants.AUTH_SCHEMA,
             joinColumns = @JoinColumn(name = "ClientAuth", referencedColumnName = "clientId"),
@@ -57,7 +57,13 @@ import java.util.Date;
 @ToString
 @Table(
         name = ModelConstants.REFRESH_TOKEN_TABLE,
-        schema = ModelConstants.AUTH_SCHEMA
+        schema = ModelConstants.AUTH_SCHEMA,
+        indexes = {
+                @Index(
+                        name = "index_refreshtoken_expiryDate",
+                        columnList = "expiryDate, refreshTokenId"
+                )
+        }
 )
 public class RefreshToken {
 
@@ -65,7 +71,8 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private String refreshTokenId;
 
-    @Column(nullable = false, unique = true)
+    // unique, but enforced by InitRefreshTokenJtiProcessor since a partitioned table cannot hold a jti-only constraint
+    @Column(nullable = false)
     private String jti;
 
     private String clientId;
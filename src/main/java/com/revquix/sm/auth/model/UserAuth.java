@@ -120,12 +120,13 @@ public class UserAuth extends ModelPayload<UserAuth> {
     private String registerIp;
     private String lastLoginIp;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             schema = ModelConstants.AUTH_SCHEMA,
             joinColumns = @JoinColumn(name = "UserAuth", referencedColumnName = "userId"),
             inverseJoinColumns = @JoinColumn(name = "Role", referencedColumnName = "roleId")
     )
     @Builder.Default
+    @ToString.Exclude
     private List<Role> roles = new ArrayList<>();
 }
@@ -0,0 +1,53 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.payload.record;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: AuthorityRequirement
+ */
+
+/**
+ * A list of required authorities compiled against the AuthorityGraph. For each required authority,
+ * roleMasks and scopeMasks hold the bits of every role and scope whose expansion grants it, so an
+ * indexed role and scope set satisfies the requirement when it shares a bit with each pair.
+ */
+public record AuthorityRequirement(
+        long[] roleMasks,
+        long[] scopeMasks
+) {
+
+    public boolean isSatisfiedBy(long roleMask, long scopeMask) {
+        for (int index = 0; index < roleMasks.length; index++) {
+            if ((roleMask & roleMasks[index]) == 0 && (scopeMask & scopeMasks[index]) == 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.payload.record;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RateLimitBucket
+ */
+
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+
+import java.time.Duration;
+
+/**
+ * Token bucket of a rate limit rule in the form the limiters evaluate it: one token is refilled every
+ * refillInterval and the bucket holds at most burst worth of refill time, that is capacity tokens.
+ */
+public record RateLimitBucket(
+        Duration refillInterval,
+        Duration burst
+) {
+
+    public static RateLimitBucket from(AuthenticationProperties.RateLimitRule rateLimitRule) {
+        Duration refillInterval = rateLimitRule.getRefillPeriod().dividedBy(Math.max(1, rateLimitRule.getRefillTokens()));
+        return new RateLimitBucket(refillInterval, refillInterval.multipliedBy(Math.max(1, rateLimitRule.getCapacity())));
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.payload.record;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RegisteredClient
+ */
+
+import com.revquix.sm.auth.enums.ClientStatus;
+import com.revquix.sm.auth.enums.ClientType;
+import com.revquix.sm.auth.enums.EnvironmentType;
+import com.revquix.sm.auth.model.ClientAuth;
+import com.revquix.sm.auth.authentication.AuthorityGraph;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable view of a ClientAuth held by the ClientAuthRegistry, with its scopes already
+ * expanded through the AuthorityGraph.
+ */
+public record RegisteredClient(
+        String clientId,
+        String clientName,
+        ClientType clientType,
+        EnvironmentType environmentType,
+        String clientSecret,
+        List<String> origins,
+        ClientStatus clientStatus,
+        Date expirationDate,
+        AuthoritySet scopes
+) {
+
+    public static RegisteredClient from(ClientAuth clientAuth, AuthorityGraph authorityGraph) {
+        return new RegisteredClient(
+                clientAuth.getClientId(),
+                clientAuth.getClientName(),
+                clientAuth.getClientType(),
+                clientAuth.getEnvironmentType(),
+                clientAuth.getClientSecret(),
+                Objects.isNull(clientAuth.getOrigins()) ? null : List.copyOf(clientAuth.getOrigins()),
+                clientAuth.getClientStatus(),
+                Objects.isNull(clientAuth.getExpirationDate()) ? null : new Date(clientAuth.getExpirationDate().getTime()),
+                authorityGraph.scopes(clientAuth.getScopes())
+        );
+    }
+
+    @Override
+    public Date expirationDate() {
+        return Objects.isNull(expirationDate) ? null : new Date(expirationDate.getTime());
+    }
+}
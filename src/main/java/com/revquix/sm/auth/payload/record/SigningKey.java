@@ -0,0 +1,65 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.payload.record;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: SigningKey
+ */
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A key of the JWT keyring with its verifier. The key signs new tokens from activatesAt and
+ * verifies tokens until retiresAt, after which it is neither published nor accepted.
+ */
+public record SigningKey(
+        JWK jwk,
+        JWSVerifier verifier,
+        Instant activatesAt,
+        Instant retiresAt
+) {
+
+    public String keyId() {
+        return jwk.getKeyID();
+    }
+
+    public boolean isActive(Instant now) {
+        return !activatesAt.isAfter(now) && !isRetired(now);
+    }
+
+    public boolean isRetired(Instant now) {
+        return Objects.nonNull(retiresAt) && !retiresAt.isAfter(now);
+    }
+}
@@ -85,6 +85,28 @@ public class AuthResponseGenerator {
         return authResponse;
     }
 
+    /**
+     * Generates an AuthResponse for a refresh token request. The redeemed refresh token is
+     * rotated to the newly issued one in a single RefreshTokenStore operation.
+     *
+     * @param authentication      The authentication object rebuilt from the refresh token.
+     * @param httpServletRequest  The HTTP request object.
+     * @param redeemedJti         The jti of the refresh token being redeemed.
+     * @return An AuthResponse containing tokens and user information.
+     */
+    public AuthResponse generateRotatedAuthResponse(Authentication authentication, HttpServletRequest httpServletRequest, String redeemedJti) {
+        log.info("AuthResponseGenerator >> generateRotatedAuthResponse");
+        AuthenticationProperties.TokenData tokenData = authenticationProperties.getJwt().getTokenData();
+        String origin = httpServletRequest.getHeader(ServiceConstants.ORIGIN);
+        AuthIdentity authIdentity = (AuthIdentity) authentication.getPrincipal();
+        String accessToken = jwtTokenGenerator.generateAccessToken(authentication, httpServletRequest);
+        RefreshTokenRecord refreshTokenRecord = jwtTokenGenerator.generateRefreshToken(authentication, httpServletRequest);
+        ResponseCookie authResponseCookie = getAuthResponseCookie(refreshTokenRecord.token(), origin);
+        AuthResponse authResponse = getAuthResponse(accessToken, authIdentity, origin, tokenData, authResponseCookie);
+        refreshTokenPersistProcessor.processRotation(authentication, refreshTokenRecord, redeemedJti);
+        return authResponse;
+    }
+
     /**
      * Generates an AuthResponse for Facebook authentication.
      *
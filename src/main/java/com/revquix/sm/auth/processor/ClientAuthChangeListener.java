@@ -0,0 +1,168 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: ClientAuthChangeListener
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.auth.authentication.ClientAuthRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * ClientAuthChangeListener keeps the ClientAuthRegistry in step with client changes made by other
+ * instances. On startup it installs a trigger that publishes the client id on the client_auth_changed
+ * channel whenever a client row is inserted, updated or deleted, unless another instance already did;
+ * starting instances serialize on an advisory lock so only one of them takes the table lock. It then
+ * holds a dedicated connection, opened outside the pool so the pool is not left one connection short,
+ * that LISTENs on that channel and invalidates the notified client. After every (re)connect the registry
+ * is refreshed in full to cover notifications missed while disconnected.
+ */
+@Component
+@ConditionalOnProperty(name = "client-registry.listen-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ClientAuthChangeListener {
+
+    private static final String CHANNEL = "client_auth_changed";
+    private static final String TABLE = ModelConstants.AUTH_SCHEMA + "." + ModelConstants.CLIENT_TABLE;
+    private static final String NOTIFY_FUNCTION = ModelConstants.AUTH_SCHEMA + ".notify_client_auth_changed";
+    private static final String SELECT_TRIGGER_EXISTS = "SELECT EXISTS (SELECT 1 FROM pg_trigger" +
+            " WHERE tgrelid = '" + TABLE + "'::regclass AND tgname = '" + CHANNEL + "')";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClientAuthRegistry clientAuthRegistry;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread listener;
+
+    public ClientAuthChangeListener(DataSourceProperties dataSourceProperties,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ClientAuthRegistry clientAuthRegistry,
+                                    @Value("${client-registry.listen-poll-timeout:5s}") Duration pollTimeout,
+                                    @Value("${client-registry.listen-reconnect-delay:5s}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clientAuthRegistry = clientAuthRegistry;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("{} >> start -> Installing notify trigger and listening on channel: {}", getClass().getSimpleName(), CHANNEL);
+        try {
+            transactionTemplate.executeWithoutResult(status -> installTrigger());
+        } catch (RuntimeException exception) {
+            // the periodic refresh of the registry still picks up changes, only later
+            log.error("Error -> {} >> start -> Failed to install the notify trigger on {}", getClass().getSimpleName(), TABLE, exception);
+        }
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("client-auth-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        log.info("{} >> destroy -> Stopping client change listener", getClass().getSimpleName());
+        running = false;
+        if (listener != null) listener.join(pollTimeout.toMillis() * 2);
+    }
+
+    private void installTrigger() {
+        // held until the transaction ends, so instances starting together install the trigger one at a time
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext('" + NOTIFY_FUNCTION + "'))");
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(SELECT_TRIGGER_EXISTS, Boolean.class))) return;
+        log.info("{} >> installTrigger -> Creating trigger {} on {}", getClass().getSimpleName(), CHANNEL, TABLE);
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION " + NOTIFY_FUNCTION + "() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "IF TG_OP = 'DELETE' THEN PERFORM pg_notify('" + CHANNEL + "', OLD.client_id); " +
+                "ELSE PERFORM pg_notify('" + CHANNEL + "', NEW.client_id); END IF; " +
+                "RETURN NULL; " +
+                "END; $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE TRIGGER " + CHANNEL + " AFTER INSERT OR UPDATE OR DELETE ON " + TABLE +
+                " FOR EACH ROW EXECUTE FUNCTION " + NOTIFY_FUNCTION + "()");
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                // LISTEN only takes effect on commit
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                clientAuthRegistry.refresh();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        if (StringUtils.hasText(notification.getParameter()))
+                            clientAuthRegistry.invalidate(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException exception) {
+                if (!running) return;
+                log.error("Error -> {} >> listen -> Client change listener failed, reconnecting in {}", getClass().getSimpleName(), reconnectDelay, exception);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
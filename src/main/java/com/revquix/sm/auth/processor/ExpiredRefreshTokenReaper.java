@@ -0,0 +1,173 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: ExpiredRefreshTokenReaper
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ExpiredRefreshTokenReaper periodically removes refresh token rows whose expiry date has passed.
+ * Rows are deleted in bounded batches, each in its own transaction, walking the
+ * (expiry_date, refresh_token_id) index with a keyset cursor so no batch rescans rows already visited.
+ * When the table uses the monthly partitioned layout, the reaper also creates the partitions for the
+ * current and next month and drops whole partitions once every token in them has expired, releasing
+ * their jti values from the refresh_token_jti lookup table first since dropping a partition fires no trigger.
+ */
+@Component
+@ConditionalOnProperty(prefix = "refresh-token.reaper", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ExpiredRefreshTokenReaper {
+
+    private static final String TABLE = ModelConstants.AUTH_SCHEMA + "." + ModelConstants.REFRESH_TOKEN_TABLE;
+    private static final String JTI_TABLE = TABLE + "_jti";
+    private static final String SELECT_EXPIRED_BATCH = "SELECT expiry_date, refresh_token_id FROM " + TABLE +
+            " WHERE expiry_date < ? AND (expiry_date, refresh_token_id) > (?, ?)" +
+            " ORDER BY expiry_date, refresh_token_id LIMIT ?";
+    private static final String DELETE_EXPIRED_RANGE = "DELETE FROM " + TABLE +
+            " WHERE expiry_date < ? AND (expiry_date, refresh_token_id) > (?, ?) AND (expiry_date, refresh_token_id) <= (?, ?)";
+    private static final String SELECT_PARTITIONS = "SELECT child.relname FROM pg_inherits inheritance" +
+            " JOIN pg_class child ON child.oid = inheritance.inhrelid" +
+            " JOIN pg_class parent ON parent.oid = inheritance.inhparent" +
+            " JOIN pg_namespace namespace ON namespace.oid = parent.relnamespace" +
+            " WHERE namespace.nspname = '" + ModelConstants.AUTH_SCHEMA + "' AND parent.relname = '" + ModelConstants.REFRESH_TOKEN_TABLE + "'";
+    private static final Pattern PARTITION_NAME = Pattern.compile(ModelConstants.REFRESH_TOKEN_TABLE + "_y(\\d{4})m(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthenticationProperties authenticationProperties;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final boolean partitioned;
+
+    public ExpiredRefreshTokenReaper(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     AuthenticationProperties authenticationProperties,
+                                     @Value("${refresh-token.reaper.batch-size:1000}") int batchSize,
+                                     @Value("${refresh-token.reaper.max-batches-per-run:100}") int maxBatchesPerRun,
+                                     @Value("${refresh-token.reaper.partitioned:false}") boolean partitioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.authenticationProperties = authenticationProperties;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.partitioned = partitioned;
+    }
+
+    @Scheduled(
+            initialDelayString = "${refresh-token.reaper.initial-delay:PT1M}",
+            fixedDelayString = "${refresh-token.reaper.interval:PT15M}"
+    )
+    public void reap() {
+        log.info("{} >> reap -> Removing expired refresh tokens, partitioned: {}", getClass().getSimpleName(), partitioned);
+        try {
+            if (partitioned) transactionTemplate.executeWithoutResult(status -> maintainPartitions());
+            int deleted = deleteExpiredRows();
+            log.info("{} >> reap -> Deleted {} expired refresh tokens", getClass().getSimpleName(), deleted);
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> reap -> Failed to remove expired refresh tokens", getClass().getSimpleName(), exception);
+        }
+    }
+
+    private int deleteExpiredRows() {
+        Timestamp cutoff = new Timestamp(System.currentTimeMillis());
+        Timestamp cursorExpiryDate = new Timestamp(0L);
+        String cursorId = "";
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<ExpiredKey> keys = jdbcTemplate.query(
+                    SELECT_EXPIRED_BATCH,
+                    (resultSet, rowNum) -> new ExpiredKey(resultSet.getTimestamp(1), resultSet.getString(2)),
+                    cutoff, cursorExpiryDate, cursorId, batchSize
+            );
+            if (keys.isEmpty()) break;
+            ExpiredKey last = keys.get(keys.size() - 1);
+            Timestamp fromExpiryDate = cursorExpiryDate;
+            String fromId = cursorId;
+            Integer batchDeleted = transactionTemplate.execute(status -> jdbcTemplate.update(
+                    DELETE_EXPIRED_RANGE,
+                    cutoff, fromExpiryDate, fromId, last.expiryDate(), last.refreshTokenId()
+            ));
+            deleted += Objects.requireNonNullElse(batchDeleted, 0);
+            cursorExpiryDate = last.expiryDate();
+            cursorId = last.refreshTokenId();
+            if (keys.size() < batchSize) break;
+        }
+        return deleted;
+    }
+
+    private void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now();
+        createPartition(currentMonth);
+        createPartition(currentMonth.plusMonths(1));
+        LocalDate expiredBefore = LocalDate.now().minusDays(authenticationProperties.getJwt().getTokenData().getRefreshTokenExpiryDays());
+        for (String partition : jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class)) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) continue;
+            YearMonth partitionMonth = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!partitionMonth.plusMonths(1).atDay(1).isAfter(expiredBefore)) {
+                log.info("{} >> maintainPartitions -> Dropping expired partition {}", getClass().getSimpleName(), partition);
+                jdbcTemplate.execute("DELETE FROM " + JTI_TABLE + " WHERE jti IN (SELECT jti FROM " + ModelConstants.AUTH_SCHEMA + "." + partition + ")");
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + ModelConstants.AUTH_SCHEMA + "." + partition);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = ModelConstants.REFRESH_TOKEN_TABLE + "_" + month.format(PARTITION_SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ModelConstants.AUTH_SCHEMA + "." + partition +
+                " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private record ExpiredKey(Timestamp expiryDate, String refreshTokenId) {
+    }
+}
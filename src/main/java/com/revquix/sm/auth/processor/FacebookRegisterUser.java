@@ -68,7 +68,7 @@ public class FacebookRegisterUser {
      */
     public UserAuth process(FacebookUserDetailsResponse facebookUserDetailsResponse) {
         log.info("{} >> process", getClass().getSimpleName());
-        Optional<UserAuth> userAuthByEmailOptional = userAuthRepository.findByEmail(facebookUserDetailsResponse.getEmail());
+        Optional<UserAuth> userAuthByEmailOptional = userAuthRepository.findWithRolesByEmail(facebookUserDetailsResponse.getEmail());
         if (userAuthByEmailOptional.isEmpty()) {
             return doRegister(facebookUserDetailsResponse);
         } else {
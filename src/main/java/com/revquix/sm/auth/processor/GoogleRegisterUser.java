@@ -68,7 +68,7 @@ public class GoogleRegisterUser {
      */
     public UserAuth process(GoogleTokenInfoResponse googleTokenInfoResponse) {
         log.info("{} >> process", getClass().getSimpleName());
-        Optional<UserAuth> userAuthByEmailOptional = userAuthRepository.findByEmail(googleTokenInfoResponse.getEmail());
+        Optional<UserAuth> userAuthByEmailOptional = userAuthRepository.findWithRolesByEmail(googleTokenInfoResponse.getEmail());
         if (userAuthByEmailOptional.isEmpty()) {
             return doRegister(googleTokenInfoResponse);
         } else {
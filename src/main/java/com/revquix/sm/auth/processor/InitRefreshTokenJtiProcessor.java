@@ -0,0 +1,138 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: InitRefreshTokenJtiProcessor
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.application.utils.ConcurrentIndexBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * InitRefreshTokenJtiProcessor makes sure every refresh token jti is unique. The constraint is kept out
+ * of the entity because a partitioned table only accepts unique constraints that include the partition
+ * key, and ddl-auto would keep trying to add a jti-only one. On the plain table the jti-only unique
+ * constraint Hibernate created on earlier deployments is adopted when present, since ddl-auto never drops
+ * it; only a table without one gets the unique_refreshtoken_jti index. On the monthly partitioned layout
+ * the refresh_token_jti lookup table created by the partition script holds every live jti under its
+ * primary key. Any mismatch between the table layout and refresh-token.reaper.partitioned stops the
+ * startup, since rotation relies on the jti being unique.
+ */
+@Component
+@Slf4j
+public class InitRefreshTokenJtiProcessor {
+
+    private static final String TABLE = ModelConstants.AUTH_SCHEMA + "." + ModelConstants.REFRESH_TOKEN_TABLE;
+    private static final String INDEX = "unique_refreshtoken_jti";
+    private static final String SELECT_RELATION_KIND = "SELECT relation.relkind FROM pg_class relation" +
+            " JOIN pg_namespace namespace ON namespace.oid = relation.relnamespace" +
+            " WHERE namespace.nspname = '" + ModelConstants.AUTH_SCHEMA + "' AND relation.relname = ?";
+    private static final String SELECT_JTI_CONSTRAINT = "SELECT constraint_entry.conname FROM pg_constraint constraint_entry" +
+            " JOIN pg_attribute attribute ON attribute.attrelid = constraint_entry.conrelid AND attribute.attnum = constraint_entry.conkey[1]" +
+            " WHERE constraint_entry.conrelid = '" + TABLE + "'::regclass AND constraint_entry.contype = 'u'" +
+            " AND cardinality(constraint_entry.conkey) = 1 AND attribute.attname = 'jti'";
+
+    private final DataSource dataSource;
+    private final ConcurrentIndexBuilder concurrentIndexBuilder;
+    private final boolean partitioned;
+
+    public InitRefreshTokenJtiProcessor(DataSource dataSource,
+                                        ConcurrentIndexBuilder concurrentIndexBuilder,
+                                        @Value("${refresh-token.reaper.partitioned:false}") boolean partitioned) {
+        this.dataSource = dataSource;
+        this.concurrentIndexBuilder = concurrentIndexBuilder;
+        this.partitioned = partitioned;
+    }
+
+    public void process() {
+        try {
+            boolean partitionedTable;
+            try (Connection connection = dataSource.getConnection()) {
+                try {
+                    partitionedTable = "p".equals(relationKind(connection, ModelConstants.REFRESH_TOKEN_TABLE));
+                    if (partitioned != partitionedTable)
+                        throw new IllegalStateException(TABLE + (partitionedTable ? " is" : " is not") +
+                                " partitioned but refresh-token.reaper.partitioned is " + partitioned);
+                    if (partitioned) verifyLookupTable(connection);
+                } finally {
+                    connection.rollback();
+                }
+            }
+            if (!partitioned) concurrentIndexBuilder.withIndexLock(INDEX, this::enforceUniqueJti);
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to enforce unique refresh token jti on " + TABLE, exception);
+        }
+    }
+
+    private void enforceUniqueJti(Connection connection) throws SQLException {
+        String legacyConstraint = legacyConstraint(connection);
+        if (legacyConstraint == null) {
+            concurrentIndexBuilder.createIndex(connection, INDEX, "ON " + TABLE + " (jti)", true);
+            return;
+        }
+        log.info("{} >> enforceUniqueJti -> Adopting the existing constraint {}", getClass().getSimpleName(), legacyConstraint);
+        concurrentIndexBuilder.dropIndex(connection, INDEX);
+    }
+
+    private String legacyConstraint(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_JTI_CONSTRAINT);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+
+    private void verifyLookupTable(Connection connection) throws SQLException {
+        String lookupTable = ModelConstants.REFRESH_TOKEN_TABLE + "_jti";
+        if (relationKind(connection, lookupTable) == null)
+            throw new IllegalStateException(ModelConstants.AUTH_SCHEMA + "." + lookupTable +
+                    " is missing, run scripts/partitioning/refresh-token-monthly-partitions.sql again");
+        log.info("{} >> verifyLookupTable -> Lookup table {} is present", getClass().getSimpleName(), lookupTable);
+    }
+
+    private String relationKind(Connection connection, String relation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_RELATION_KIND)) {
+            statement.setString(1, relation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: InitUserAuthIndexProcessor
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.application.utils.ConcurrentIndexBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * InitUserAuthIndexProcessor creates the lower() expression indexes that back the case-insensitive
+ * login lookups on email, username and mobile. They cannot be declared through @Index, and the SQL
+ * init scripts run before Hibernate creates the table, so they are created once the schema exists.
+ * A failed build is logged and retried on the next start; logins keep working, only slower.
+ * The query plans are checked by InitUserAuthIndexProcessorTest against a Postgres container.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InitUserAuthIndexProcessor {
+
+    static final String TABLE = ModelConstants.AUTH_SCHEMA + "." + ModelConstants.USER_AUTH;
+    static final List<String> INDEXED_COLUMNS = List.of("email", "username", "mobile");
+
+    private final ConcurrentIndexBuilder concurrentIndexBuilder;
+
+    public void process() {
+        for (String column : INDEXED_COLUMNS) {
+            String index = indexName(column);
+            try {
+                concurrentIndexBuilder.withIndexLock(index, connection ->
+                        concurrentIndexBuilder.createIndex(connection, index, "ON " + TABLE + " (lower(" + column + "))", false));
+            } catch (SQLException | RuntimeException exception) {
+                log.error("Error -> {} >> process -> Failed to create the login lookup index {}", getClass().getSimpleName(), index, exception);
+            }
+        }
+    }
+
+    static String indexName(String column) {
+        return "index_userauth_lower_" + column;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: KeyStoreWatcher
+ */
+
+import com.revquix.sm.auth.authentication.KeyProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeyStoreWatcher reloads the KeyProvider when the keystore file changes, so keys can be rotated
+ * without a restart. It watches the directory of the keystore rather than the file itself, because
+ * mounted secrets are replaced by swapping a symlink in that directory, and waits for the changes to
+ * settle before reloading. Classpath keystores cannot change and are not watched.
+ */
+@Component
+@ConditionalOnProperty(name = "key-store.watch-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class KeyStoreWatcher {
+
+    private final KeyProvider keyProvider;
+    private final Duration debounce;
+    private volatile WatchService watchService;
+    private Thread watcher;
+
+    public KeyStoreWatcher(KeyProvider keyProvider,
+                           @Value("${key-store.watch-debounce:2s}") Duration debounce) {
+        this.keyProvider = keyProvider;
+        this.debounce = debounce;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        Path keyStoreFile = keyProvider.getKeyStoreFile();
+        if (Objects.isNull(keyStoreFile)) {
+            log.info("{} >> start -> Keystore is loaded from the classpath, not watching for changes", getClass().getSimpleName());
+            return;
+        }
+        Path directory = keyStoreFile.getParent();
+        log.info("{} >> start -> Watching directory: {} for keystore changes", getClass().getSimpleName(), directory);
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        watcher = Thread.ofPlatform().daemon().name("key-store-watcher").start(this::watch);
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException, InterruptedException {
+        log.info("{} >> destroy -> Stopping keystore watcher", getClass().getSimpleName());
+        if (Objects.nonNull(watchService)) watchService.close();
+        if (Objects.nonNull(watcher)) watcher.join(debounce.toMillis() * 2);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                drain(watchKey);
+                // a file copy or secret update arrives as a burst of events, reload once after it settles
+                WatchKey next;
+                while (Objects.nonNull(next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS))) {
+                    drain(next);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException exception) {
+            log.info("{} >> watch -> Keystore watcher stopped", getClass().getSimpleName());
+        }
+    }
+
+    private void drain(WatchKey watchKey) {
+        watchKey.pollEvents();
+        watchKey.reset();
+    }
+
+    private void reload() {
+        try {
+            if (!keyProvider.reload()) {
+                log.info("{} >> reload -> Keystore content unchanged, keeping current key material", getClass().getSimpleName());
+            }
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> reload -> Failed to reload keystore, keeping current key material", getClass().getSimpleName(), exception);
+        }
+    }
+}
@@ -34,37 +34,32 @@ package com.revquix.sm.auth.processor;
   File: LoginHistoryProcessor
  */
 
-import com.revquix.sm.auth.repository.LoginHistoryRepository;
 import com.revquix.sm.auth.enums.AuthProvider;
-import com.revquix.sm.auth.feign.IPAPIFeign;
 import com.revquix.sm.auth.model.LoginHistory;
 import com.revquix.sm.auth.payload.response.AuthResponse;
-import com.revquix.sm.auth.payload.response.IPResponse;
 import com.revquix.sm.application.utils.IpUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.util.Date;
-import java.util.Objects;
 
 /**
- * LoginHistoryProcessor is responsible for processing and saving login history
- * information, including IP address details and country information.
+ * LoginHistoryProcessor is responsible for capturing login history information on the
+ * request thread and handing it to the LoginHistoryWriter, which resolves the country
+ * of the IP address and saves it in the background.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class LoginHistoryProcessor {
 
-    private final IPAPIFeign ipapiFeign;
-    private final LoginHistoryRepository loginHistoryRepository;
+    private final LoginHistoryWriter loginHistoryWriter;
     private final IpUtils ipUtils;
 
     /**
-     * Processes the login history by retrieving IP address details and saving
-     * the login information to the database.
+     * Processes the login history by capturing the remote address and queueing
+     * the login information to be written to the database.
      *
      * @param authResponse       The authentication response containing user details.
      * @param authProvider       The authentication provider used for login.
@@ -72,17 +67,6 @@ public class LoginHistoryProcessor {
     public void process(AuthResponse authResponse, AuthProvider authProvider) {
         log.info("{} >> process -> Processing login history, email: {}", getClass().getSimpleName(), authResponse.getEmail());
         String remoteAddress = ipUtils.getRemoteAddress();
-        log.info("{} >> process -> Calling External API to get details of IP Address, ipAddress: {}", getClass().getSimpleName(), remoteAddress);
-        String countryName = "";
-        if (StringUtils.hasText(remoteAddress)) {
-            IPResponse ipDetails = ipapiFeign.getDetails(remoteAddress);
-            log.info("{} >> process -> IP Details: {}", getClass().getSimpleName(), ipDetails);
-            if (Objects.nonNull(ipDetails) && ipDetails.getStatus().equalsIgnoreCase("success")) {
-                countryName = ipDetails.getCountry();
-            } else {
-                log.warn("{} >> process -> Error retrieving details of IP Address", getClass().getSimpleName());
-            }
-        }
         LoginHistory loginHistory = LoginHistory
                 .builder()
                 .userId(authResponse.getUserId())
@@ -90,9 +74,8 @@ public class LoginHistoryProcessor {
                 .provider(authProvider.name())
                 .entryPoint(authResponse.getEmail())
                 .ipAddress(remoteAddress)
-                .country(countryName)
                 .build();
-        LoginHistory loginHistoryResponse = loginHistoryRepository.save(loginHistory);
-        log.info("{} >> process -> Login history saved to Database : {}", getClass().getSimpleName(), loginHistoryResponse);
+        boolean accepted = loginHistoryWriter.submit(loginHistory);
+        log.info("{} >> process -> Login history queued: {}", getClass().getSimpleName(), accepted);
     }
 }
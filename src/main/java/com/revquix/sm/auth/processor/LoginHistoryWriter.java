@@ -0,0 +1,221 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: LoginHistoryWriter
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.auth.geoip.GeoIpResolver;
+import com.revquix.sm.auth.model.LoginHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoginHistoryWriter records login history off the request thread. Entries are placed on a
+ * bounded in-memory queue and a single background drainer resolves their countries through the
+ * GeoIpResolver and writes them with JDBC batch inserts, flushing when the batch is full or the
+ * flush interval elapses. When the queue is full the entry is dropped and counted rather than blocking the login,
+ * and any queued entries are flushed on graceful shutdown.
+ */
+@Component
+@Slf4j
+public class LoginHistoryWriter {
+
+    private static final String INSERT_LOGIN_HISTORY = "INSERT INTO " + ModelConstants.AUTH_SCHEMA + "." + ModelConstants.LOGIN_HISTORY +
+            " (login_history_id, entry_point, ip_address, date_created, provider, country, user_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final GeoIpResolver geoIpResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<LoginHistory> queue;
+    private final int flushSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public LoginHistoryWriter(GeoIpResolver geoIpResolver,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${login-history.writer.queue-capacity:10000}") int queueCapacity,
+                              @Value("${login-history.writer.flush-size:200}") int flushSize,
+                              @Value("${login-history.writer.flush-interval:1s}") Duration flushInterval,
+                              @Value("${login-history.writer.offer-timeout:0ms}") Duration offerTimeout,
+                              @Value("${login-history.writer.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.geoIpResolver = geoIpResolver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.enqueuedCounter = Counter.builder("login.history.enqueued").description("Login history entries accepted by the writer queue").register(meterRegistry);
+        this.droppedCounter = Counter.builder("login.history.dropped").description("Login history entries dropped because the writer queue was full").register(meterRegistry);
+        this.writtenCounter = Counter.builder("login.history.written").description("Login history entries written to the database").register(meterRegistry);
+        this.failedCounter = Counter.builder("login.history.failed").description("Login history entries lost because their batch insert failed").register(meterRegistry);
+        Gauge.builder("login.history.queue.size", queue, BlockingQueue::size).description("Login history entries waiting to be written").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("{} >> start -> Starting login history drainer, flushSize: {}, flushInterval: {}", getClass().getSimpleName(), flushSize, flushInterval);
+        running = true;
+        drainer = Thread.ofPlatform().daemon().name("login-history-writer").start(this::drain);
+    }
+
+    /**
+     * Queues a login history entry to be enriched and written by the background drainer.
+     * Waits at most the configured offer timeout for space in the queue.
+     *
+     * @param loginHistory The login history entry with the remote address but without the country.
+     * @return true if the entry was queued, false if it was dropped.
+     */
+    public boolean submit(LoginHistory loginHistory) {
+        boolean accepted;
+        try {
+            accepted = queue.offer(loginHistory, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (accepted) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+            log.warn("{} >> submit -> Login history queue is full, dropping entry for userId: {}", getClass().getSimpleName(), loginHistory.getUserId());
+        }
+        return accepted;
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        log.info("{} >> destroy -> Stopping login history drainer", getClass().getSimpleName());
+        running = false;
+        if (drainer != null) drainer.join(shutdownTimeout.toMillis());
+        List<LoginHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        log.info("{} >> destroy -> Flushing {} remaining login history entries", getClass().getSimpleName(), remaining.size());
+        for (int from = 0; from < remaining.size(); from += flushSize) {
+            flush(remaining.subList(from, Math.min(from + flushSize, remaining.size())));
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                List<LoginHistory> batch = nextBatch();
+                if (!batch.isEmpty()) flush(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Error -> {} >> drain -> Unexpected error while draining login history", getClass().getSimpleName(), exception);
+            }
+        }
+    }
+
+    private List<LoginHistory> nextBatch() throws InterruptedException {
+        List<LoginHistory> batch = new ArrayList<>(flushSize);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < flushSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            LoginHistory loginHistory = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (Objects.isNull(loginHistory)) break;
+            batch.add(loginHistory);
+            queue.drainTo(batch, flushSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void flush(List<LoginHistory> batch) {
+        enrichCountries(batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_LOGIN_HISTORY, batch, batch.size(), (preparedStatement, loginHistory) -> {
+                preparedStatement.setString(1, UUID.randomUUID().toString());
+                preparedStatement.setString(2, loginHistory.getEntryPoint());
+                preparedStatement.setString(3, loginHistory.getIpAddress());
+                preparedStatement.setTimestamp(4, new Timestamp(loginHistory.getDateCreated().getTime()));
+                preparedStatement.setString(5, loginHistory.getProvider());
+                preparedStatement.setString(6, loginHistory.getCountry());
+                preparedStatement.setString(7, loginHistory.getUserId());
+            }));
+            writtenCounter.increment(batch.size());
+            log.info("{} >> flush -> Login history batch saved to Database, size: {}", getClass().getSimpleName(), batch.size());
+        } catch (RuntimeException exception) {
+            failedCounter.increment(batch.size());
+            log.error("Error -> {} >> flush -> Failed to save login history batch, size: {}", getClass().getSimpleName(), batch.size(), exception);
+        }
+    }
+
+    private void enrichCountries(List<LoginHistory> batch) {
+        Map<String, String> countries = new HashMap<>();
+        for (LoginHistory loginHistory : batch) {
+            String ipAddress = loginHistory.getIpAddress();
+            String country = StringUtils.hasText(ipAddress) ? countries.computeIfAbsent(ipAddress, this::lookupCountry) : "";
+            loginHistory.setCountry(country);
+        }
+    }
+
+    private String lookupCountry(String ipAddress) {
+        return geoIpResolver.resolveCountry(ipAddress).orElse("");
+    }
+}
@@ -34,52 +34,66 @@ package com.revquix.sm.auth.processor;
   File: LogoutUserProcessor
  */
 
+import com.revquix.sm.application.constants.ServiceConstants;
+import com.revquix.sm.auth.authentication.AccessTokenDenyList;
 import com.revquix.sm.auth.authentication.JwtTokenDecoder;
-import com.revquix.sm.auth.repository.RefreshTokenRepository;
-import com.revquix.sm.auth.model.RefreshToken;
+import com.revquix.sm.auth.store.RefreshTokenStore;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
  * LogoutUserProcessor is responsible for processing user logout by
- * validating and deleting the associated refresh token from the database.
+ * validating and revoking the associated refresh token in the RefreshTokenStore,
+ * and then adding the bearer access token of the request to the AccessTokenDenyList.
+ * A deny list that cannot be reached is logged and does not fail the logout.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class LogoutUserProcessor {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtDecoder jwtDecoder;
     private final JwtTokenDecoder jwtTokenDecoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenDenyList accessTokenDenyList;
 
     /**
      * Processes user logout by validating the provided refresh token cookie
-     * and deleting the corresponding refresh token from the database.
+     * and revoking the corresponding refresh token in the RefreshTokenStore.
      *
-     * @param optionalCookie An Optional containing the refresh token cookie.
+     * @param optionalCookie     An Optional containing the refresh token cookie.
+     * @param httpServletRequest The logout request, whose bearer access token is revoked.
      */
-    public void process(Optional<Cookie> optionalCookie) {
-        if (optionalCookie.isEmpty()) return;
-        String refreshToken = optionalCookie.get().getValue();
+    public void process(Optional<Cookie> optionalCookie, HttpServletRequest httpServletRequest) {
+        // the refresh token goes first: it outlives the access token, and the deny list is best effort
+        try {
+            optionalCookie.ifPresent(cookie -> revokeRefreshToken(cookie.getValue()));
+        } finally {
+            revokeAccessToken(httpServletRequest);
+        }
+    }
+
+    private void revokeRefreshToken(String refreshToken) {
         try {
             Jwt jwt = jwtDecoder.decode(refreshToken);
             String jti = jwtTokenDecoder.extractJti(jwt);
-            Optional<RefreshToken> refreshTokenOptional = refreshTokenRepository.findByJti(jti);
-            if (refreshTokenOptional.isEmpty()) {
-                log.warn("{} >> process -> Refresh Token data is already empty", getClass().getSimpleName());
-            }
-            RefreshToken response = refreshTokenOptional.get();
-            refreshTokenRepository.delete(response);
+            refreshTokenStore.revoke(jti);
         } catch (JwtValidationException exception) {
             Collection<OAuth2Error> errors = exception.getErrors();
             for (OAuth2Error error : errors) {
@@ -87,4 +101,18 @@ public class LogoutUserProcessor {
             }
         }
     }
+
+    private void revokeAccessToken(HttpServletRequest httpServletRequest) {
+        String authorization = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        if (Objects.isNull(authorization) || !authorization.startsWith(BEARER_PREFIX)) return;
+        try {
+            Jwt jwt = jwtDecoder.decode(authorization.substring(BEARER_PREFIX.length()));
+            if (!ServiceConstants.ACCESS_TOKEN_TYPE.equals(jwtTokenDecoder.extractTokenType(jwt))) return;
+            accessTokenDenyList.revoke(jwt.getId(), jwt.getExpiresAt());
+        } catch (JwtException exception) {
+            log.error("{} >> revokeAccessToken -> Access Token is not valid, nothing to revoke: {}", getClass().getSimpleName(), exception.getMessage());
+        } catch (DataAccessException exception) {
+            log.error("Error -> {} >> revokeAccessToken -> Failed to add the Access Token to the deny list, it stays valid until it expires", getClass().getSimpleName(), exception);
+        }
+    }
 }
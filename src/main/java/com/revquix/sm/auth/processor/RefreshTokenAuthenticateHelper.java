@@ -31,10 +31,10 @@ import com.revquix.sm.auth.authentication.AuthenticateHelper;
 import com.revquix.sm.auth.authentication.JwtTokenDecoder;
 import com.revquix.sm.auth.model.RefreshToken;
 import com.revquix.sm.auth.guardrails.RefreshTokenValidator;
+import com.revquix.sm.auth.payload.record.RefreshTokenAuthentication;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
@@ -63,13 +63,13 @@ public class RefreshTokenAuthenticateHelper {
      *
      * @param token                  The refresh token to be validated.
      * @param httpServletRequest     The HTTP request context.
-     * @return A UsernamePasswordAuthenticationToken if the token is valid.
+     * @return The authentication token and the jti to redeem if the token is valid.
      * @throws Exception if the token is invalid or any validation fails.
      */
-    public UsernamePasswordAuthenticationToken getAuthentication(String token, HttpServletRequest httpServletRequest) {
+    public RefreshTokenAuthentication getAuthentication(String token, HttpServletRequest httpServletRequest) {
         log.info("{} >> getAuthentication", getClass().getSimpleName());
         Jwt jwt = jwtTokenDecoder.validateNative(token);
         RefreshToken refreshToken = refreshTokenValidator.validate(jwt, httpServletRequest);
-        return authenticateHelper.generateAuthentication(refreshToken);
+        return new RefreshTokenAuthentication(authenticateHelper.generateAuthentication(refreshToken), refreshToken.getJti());
     }
 }
@@ -28,8 +28,9 @@
 package com.revquix.sm.auth.processor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.revquix.sm.application.exception.AuthenticationException;
+import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.auth.authentication.AuthIdentity;
-import com.revquix.sm.auth.repository.RefreshTokenRepository;
 import com.revquix.sm.auth.enums.AuthenticationType;
 import com.revquix.sm.auth.enums.RefreshTokenStatus;
 import com.revquix.sm.auth.enums.UserLoginProvider;
@@ -38,6 +39,7 @@ import com.revquix.sm.auth.payload.record.RefreshTokenRecord;
 import com.revquix.sm.auth.payload.response.FacebookLongLiveTokenResponse;
 import com.revquix.sm.auth.payload.response.GoogleRefreshTokenResponse;
 import com.revquix.sm.auth.properties.AuthenticationProperties;
+import com.revquix.sm.auth.store.RefreshTokenStore;
 import com.revquix.sm.application.utils.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,14 +57,14 @@ import java.util.Date;
 
 /**
  * RefreshTokenPersistProcessor is responsible for processing and persisting
- * refresh tokens into the database for various authentication methods.
+ * refresh tokens into the RefreshTokenStore for various authentication methods.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenPersistProcessor {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final AuthenticationProperties authenticationProperties;
 
     /**
@@ -73,25 +75,22 @@ public class RefreshTokenPersistProcessor {
      */
     public void processLocal(Authentication authentication, RefreshTokenRecord refreshTokenRecord) {
         log.info("RefreshTokenPersistProcessor >> process -> {}", refreshTokenRecord.jti());
-        AuthIdentity authIdentity = (AuthIdentity) authentication.getPrincipal();
-        AuthenticationType authenticationType = authIdentity.getAuthenticationType();
-        UserLoginProvider userLoginProvider = null;
-        if (authenticationType.equals(AuthenticationType.USER_LOGIN)) {
-            userLoginProvider = UserLoginProvider.LOCAL;
-        }
-        RefreshToken refreshToken = RefreshToken
-                .builder()
-                .jti(refreshTokenRecord.jti())
-                .clientId(authIdentity.getClientId())
-                .userId(authIdentity.getUserId())
-                .authenticationType(authenticationType)
-                .dateGenerated(new Date())
-                .expiryDate(DateUtils.addDays(new Date(), authenticationProperties.getJwt().getTokenData().getRefreshTokenExpiryDays()))
-                .refreshTokenStatus(RefreshTokenStatus.ACTIVE)
-                .userLoginProvider(userLoginProvider)
-                .build();
-        RefreshToken refreshTokenResponse = refreshTokenRepository.save(refreshToken);
-        log.info("RefreshTokenPersistProcessor >> Save -> refreshTokenId: {}, jti: {}", refreshTokenResponse.getRefreshTokenId(), refreshTokenResponse.getJti());
+        refreshTokenStore.save(buildLocal(authentication, refreshTokenRecord));
+    }
+
+    /**
+     * Processes a refresh token rotation for local authentication. The redeemed token is
+     * consumed and the newly issued token is stored in its place in one store operation.
+     *
+     * @param authentication      the authentication object containing user details
+     * @param refreshTokenRecord  the refresh token record of the newly issued token
+     * @param redeemedJti         the jti of the refresh token being redeemed
+     * @throws AuthenticationException if the redeemed token is unknown or was already used
+     */
+    public void processRotation(Authentication authentication, RefreshTokenRecord refreshTokenRecord, String redeemedJti) {
+        log.info("RefreshTokenPersistProcessor >> processRotation -> {} -> {}", redeemedJti, refreshTokenRecord.jti());
+        boolean rotated = refreshTokenStore.rotate(redeemedJti, buildLocal(authentication, refreshTokenRecord));
+        if (!rotated) throw new AuthenticationException(ErrorData.REFRESH_TOKEN_EXCEPTION);
     }
 
     public void processFacebook(Authentication authentication, RefreshTokenRecord refreshTokenRecord, FacebookLongLiveTokenResponse facebookLongLiveTokenResponse) {
@@ -110,8 +109,7 @@ public class RefreshTokenPersistProcessor {
                 .ssoTokenData(objectMapper.valueToTree(facebookLongLiveTokenResponse))
                 .userLoginProvider(UserLoginProvider.FACEBOOK)
                 .build();
-        RefreshToken refreshTokenResponse = refreshTokenRepository.save(refreshToken);
-        log.info("RefreshTokenPersistProcessor >> Save -> refreshTokenId: {}, jti: {}", refreshTokenResponse.getRefreshTokenId(), refreshTokenResponse.getJti());
+        refreshTokenStore.save(refreshToken);
     }
 
     public void processGoogle(Authentication authentication, RefreshTokenRecord refreshTokenRecord, GoogleRefreshTokenResponse googleRefreshTokenResponse) {
@@ -130,7 +128,26 @@ public class RefreshTokenPersistProcessor {
                 .ssoTokenData(objectMapper.valueToTree(googleRefreshTokenResponse))
                 .userLoginProvider(UserLoginProvider.GOOGLE)
                 .build();
-        RefreshToken refreshTokenResponse = refreshTokenRepository.save(refreshToken);
-        log.info("RefreshTokenPersistProcessor >> Save -> refreshTokenId: {}, jti: {}", refreshTokenResponse.getRefreshTokenId(), refreshTokenResponse.getJti());
+        refreshTokenStore.save(refreshToken);
+    }
+
+    private RefreshToken buildLocal(Authentication authentication, RefreshTokenRecord refreshTokenRecord) {
+        AuthIdentity authIdentity = (AuthIdentity) authentication.getPrincipal();
+        AuthenticationType authenticationType = authIdentity.getAuthenticationType();
+        UserLoginProvider userLoginProvider = null;
+        if (authenticationType.equals(AuthenticationType.USER_LOGIN)) {
+            userLoginProvider = UserLoginProvider.LOCAL;
+        }
+        return RefreshToken
+                .builder()
+                .jti(refreshTokenRecord.jti())
+                .clientId(authIdentity.getClientId())
+                .userId(authIdentity.getUserId())
+                .authenticationType(authenticationType)
+                .dateGenerated(new Date())
+                .expiryDate(DateUtils.addDays(new Date(), authenticationProperties.getJwt().getTokenData().getRefreshTokenExpiryDays()))
+                .refreshTokenStatus(RefreshTokenStatus.ACTIVE)
+                .userLoginProvider(userLoginProvider)
+                .build();
     }
 }
@@ -33,6 +33,7 @@ import com.revquix.sm.auth.repository.ScopeRepository;
 import com.revquix.sm.auth.enums.ClientStatus;
 import com.revquix.sm.auth.enums.ClientType;
 import com.revquix.sm.auth.enums.EnvironmentType;
+import com.revquix.sm.auth.authentication.ClientAuthRegistry;
 import com.revquix.sm.auth.model.ClientAuth;
 import com.revquix.sm.auth.model.Scope;
 import com.revquix.sm.application.utils.DateUtils;
@@ -64,6 +65,7 @@ public class SuperClientGenerator {
 
     private final ScopeRepository scopeRepository;
     private final ClientRepository clientRepository;
+    private final ClientAuthRegistry clientAuthRegistry;
 
     /**
      * Processes the generation or update of the super client.
@@ -79,6 +81,7 @@ public class SuperClientGenerator {
             ClientAuth clientAuth = clientOptional.get();
             clientAuth.setScopes(scopes);
             clientRepository.save(clientAuth);
+            clientAuthRegistry.invalidate(clientAuth.getClientId());
             log.info("Default Client Details Updated. Please do not use the default client credentials for production");
         } else {
             ClientAuth clientAuth = ClientAuth
@@ -94,6 +97,7 @@ public class SuperClientGenerator {
                     .scopes(scopes)
                     .build();
             ClientAuth clientAuthResponse = clientRepository.save(clientAuth);
+            clientAuthRegistry.invalidate(clientAuthResponse.getClientId());
             log.info("""
                 Default Client Secret has been generated
                 Please find the details below
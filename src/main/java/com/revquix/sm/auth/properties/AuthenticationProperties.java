@@ -27,11 +27,17 @@
  */
 package com.revquix.sm.auth.properties;
 
+import com.revquix.sm.auth.enums.JwtKeyType;
+import com.revquix.sm.auth.enums.PasswordHashAlgorithm;
+import com.revquix.sm.auth.enums.RateLimitKey;
+import com.revquix.sm.auth.enums.RateLimitStore;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -57,12 +63,80 @@ public class AuthenticationProperties {
     private JwtData jwt;
     private ExcludedPaths excludedPaths;
     private Oauth oauth;
+    private PasswordEncoderData passwordEncoder = new PasswordEncoderData();
+    private RateLimit rateLimit = new RateLimit();
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private RateLimitStore store = RateLimitStore.LOCAL;
+        private long localMaximumBuckets = 100000;
+        private List<RateLimitRule> rules = new ArrayList<>();
+    }
+
+    /**
+     * A token bucket applied to every request matching one of the paths, with one bucket per value of the key.
+     * parameter names the request parameter holding the key for CLIENT_ID and ENTRYPOINT rules, and defaults
+     * to clientId and entrypoint respectively. Requests without a value for the key are not limited by the rule.
+     */
+    @Getter
+    @Setter
+    public static class RateLimitRule {
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private RateLimitKey key = RateLimitKey.IP;
+        private String parameter;
+        private long capacity;
+        private long refillTokens;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
 
     @Getter
     @Setter
     public static class JwtData {
         private KeyProvider keyProvider;
         private TokenData tokenData;
+        private TokenCache tokenCache = new TokenCache();
+        private TokenStore tokenStore = new TokenStore();
+        private boolean compactTokenProfile = false;
+        private Duration jwksCacheMaxAge = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class TokenStore {
+        private String type = "postgres";
+        private boolean auditEnabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordEncoderData {
+        private PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.BCRYPT;
+        private int bcryptStrength = 10;
+        private int argon2MemoryKb = 19456;
+        private int argon2Iterations = 2;
+        private int argon2Parallelism = 1;
+        private int pbkdf2Iterations = 310000;
+        private Calibration calibration = new Calibration();
+    }
+
+    @Getter
+    @Setter
+    public static class Calibration {
+        private boolean enabled = false;
+        private Duration targetLatency = Duration.ofMillis(250);
+        private int samples = 3;
+        private int maxBcryptStrength = 16;
+        private int maxArgon2Iterations = 10;
     }
 
     @Getter
@@ -71,6 +145,18 @@ public class AuthenticationProperties {
         private String keyStorePath;
         private String keyStorePassword;
         private String keyAlias;
+        private JwtKeyType keyType;
+        private List<KeyringEntry> keyring = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class KeyringEntry {
+        private String keyAlias;
+        private String keyId;
+        private JwtKeyType keyType;
+        private Instant activatesAt;
+        private Instant retiresAt;
     }
 
     @Getter
@@ -0,0 +1,88 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.ratelimit;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: LocalRateLimiter
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.revquix.sm.auth.payload.record.RateLimitBucket;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalRateLimiter keeps the buckets of this instance in memory. Each bucket is a single AtomicLong
+ * holding the time at which it will be full again, the generic cell rate form of a token bucket,
+ * so taking a token is one compare-and-set without locks. Buckets idle for longer than the largest
+ * burst of any rule are full again and are evicted, as are the least recently used beyond the size bound.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bloggios-auth.rate-limit", name = "store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimiter(AuthenticationProperties authenticationProperties) {
+        AuthenticationProperties.RateLimit rateLimit = authenticationProperties.getRateLimit();
+        Duration idleTimeout = rateLimit
+                .getRules()
+                .stream()
+                .map(rule -> RateLimitBucket.from(rule).burst())
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.buckets = Caffeine
+                .newBuilder()
+                .maximumSize(rateLimit.getLocalMaximumBuckets())
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Duration tryAcquire(String key, RateLimitBucket rateLimitBucket) {
+        AtomicLong fullAt = buckets.get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+        long refillInterval = rateLimitBucket.refillInterval().toNanos();
+        long burst = rateLimitBucket.burst().toNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = Math.max(current == Long.MIN_VALUE ? now : current, now) + refillInterval;
+            long wait = next - now - burst;
+            if (wait > 0) return Duration.ofNanos(wait);
+            if (fullAt.compareAndSet(current, next)) return Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.ratelimit;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RateLimitFilter
+ */
+
+import com.revquix.sm.application.exception.ErrorData;
+import com.revquix.sm.application.utils.OutputStreamExceptionGenerator;
+import com.revquix.sm.auth.enums.RateLimitKey;
+import com.revquix.sm.auth.payload.record.RateLimitBucket;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * RateLimitFilter applies the token bucket rules of bloggios-auth.rate-limit to the authentication
+ * endpoints before any password hashing, database or mail work is done. Every rule matching the request
+ * takes a token from the bucket of its key, the remote address, the clientId or the entrypoint, and the
+ * first empty bucket rejects the request with 429 and a Retry-After header. The remote address is the one
+ * Tomcat resolves from X-Forwarded-For, skipping trusted proxies from the right, so a client cannot pick its
+ * own bucket by sending the header itself.
+ */
+@Component
+@Order(2)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, AuthenticationProperties authenticationProperties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        AuthenticationProperties.RateLimit rateLimit = authenticationProperties.getRateLimit();
+        this.enabled = rateLimit.isEnabled();
+        PathPatternParser pathPatternParser = new PathPatternParser();
+        this.rules = rateLimit
+                .getRules()
+                .stream()
+                .map(rule -> new CompiledRule(
+                        rule.getName(),
+                        rule.getPaths().stream().map(pathPatternParser::parse).toList(),
+                        rule.getKey(),
+                        Objects.isNull(rule.getParameter()) ? rule.getKey().getDefaultParameter() : rule.getParameter(),
+                        RateLimitBucket.from(rule),
+                        Counter.builder("rate.limit.rejected").tag("rule", rule.getName()).description("Requests rejected by a rate limit rule").register(meterRegistry)
+                ))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        if (enabled) {
+            PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            for (CompiledRule rule : rules) {
+                if (!rule.matches(path)) continue;
+                String keyValue = keyValue(rule, request);
+                if (Objects.isNull(keyValue)) continue;
+                Duration retryAfter = rateLimiter.tryAcquire(rule.name() + ":" + keyValue, rule.bucket());
+                if (retryAfter.isZero()) continue;
+                rule.rejectedCounter().increment();
+                log.error("{} >> doFilterInternal -> Rate limit: {} exceeded for path: {}, retry after: {}", getClass().getSimpleName(), rule.name(), request.getRequestURI(), retryAfter);
+                OutputStreamExceptionGenerator.generateExceptionResponse(ErrorData.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS, response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String keyValue(CompiledRule rule, HttpServletRequest request) {
+        if (rule.key() == RateLimitKey.IP) return request.getRemoteAddr();
+        String value = request.getParameter(rule.parameter());
+        if (!StringUtils.hasText(value)) return null;
+        return rule.key() == RateLimitKey.ENTRYPOINT ? value.trim().toLowerCase(Locale.ROOT) : value.trim();
+    }
+
+    private record CompiledRule(String name, List<PathPattern> patterns, RateLimitKey key, String parameter, RateLimitBucket bucket, Counter rejectedCounter) {
+
+        boolean matches(PathContainer path) {
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.ratelimit;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RedisRateLimiter
+ */
+
+import com.revquix.sm.auth.payload.record.RateLimitBucket;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * RedisRateLimiter shares the buckets between all instances. A bucket is one Redis key holding the time
+ * in microseconds, on the Redis clock, at which it will be full again, and a Lua script takes the token
+ * and moves that time forward in a single atomic round trip. The key expires once the bucket is full.
+ * When Redis cannot be reached the request is limited by the buckets of this instance instead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bloggios-auth.rate-limit", name = "store", havingValue = "redis")
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local full_at = tonumber(redis.call('GET', KEYS[1]) or now)
+            if full_at < now then
+                full_at = now
+            end
+            local next = full_at + interval
+            local wait = next - now - burst
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next), 'PX', string.format('%d', math.ceil((next - now) / 1000)))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalRateLimiter fallback;
+
+    public RedisRateLimiter(StringRedisTemplate stringRedisTemplate, AuthenticationProperties authenticationProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.fallback = new LocalRateLimiter(authenticationProperties);
+    }
+
+    @Override
+    public Duration tryAcquire(String key, RateLimitBucket rateLimitBucket) {
+        try {
+            Long wait = stringRedisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(KEY_PREFIX + key),
+                    String.valueOf(rateLimitBucket.refillInterval().toNanos() / 1000),
+                    String.valueOf(rateLimitBucket.burst().toNanos() / 1000)
+            );
+            return Objects.isNull(wait) || wait <= 0 ? Duration.ZERO : Duration.of(wait, ChronoUnit.MICROS);
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> tryAcquire -> Redis rate limit failed for key: {}, using local bucket", getClass().getSimpleName(), key, exception);
+            return fallback.tryAcquire(key, rateLimitBucket);
+        }
+    }
+}
@@ -28,8 +28,12 @@
 package com.revquix.sm.auth.repository;
 
 import com.revquix.sm.auth.model.ClientAuth;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Developer: Rohit Parihar
  * Project: bloggios-matching
@@ -38,4 +42,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 
 public interface ClientRepository extends JpaRepository<ClientAuth, String> {
+
+    @Override
+    @EntityGraph(attributePaths = "scopes")
+    List<ClientAuth> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "scopes")
+    Optional<ClientAuth> findById(String clientId);
 }
@@ -33,6 +33,7 @@ import com.revquix.sm.auth.model.OtpEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Developer: Rohit Parihar
@@ -44,4 +45,5 @@ import java.util.Optional;
 public interface OtpEntityRepository extends JpaRepository<OtpEntity, String> {
     Optional<OtpEntity> findByUserIdAndOtpForAndOtpStatus(String userId, OtpFor otpFor, OtpStatus otpStatus);
     Optional<OtpEntity> findByEmailAndOtpForAndOtpStatus(String email, OtpFor otpFor, OtpStatus otpStatus);
+    Optional<OtpEntity> findByOtpId(UUID otpId);
 }
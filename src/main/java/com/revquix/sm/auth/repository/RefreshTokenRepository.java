@@ -27,8 +27,12 @@
  */
 package com.revquix.sm.auth.repository;
 
+import com.revquix.sm.auth.enums.RefreshTokenStatus;
 import com.revquix.sm.auth.model.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -42,4 +46,12 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
     Optional<RefreshToken> findByJti(String jti);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.jti = :jti")
+    int deleteByJti(@Param("jti") String jti);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.refreshTokenStatus = :status WHERE r.jti = :jti")
+    int updateStatusByJti(@Param("jti") String jti, @Param("status") RefreshTokenStatus status);
 }
@@ -27,10 +27,20 @@
  */
 package com.revquix.sm.auth.repository;
 
+import com.revquix.sm.auth.enums.EntrypointType;
 import com.revquix.sm.auth.model.UserAuth;
+import com.revquix.sm.auth.payload.record.UserAuthOtpView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -43,9 +53,55 @@ import java.util.Optional;
 public interface UserAuthRepository extends JpaRepository<UserAuth, String> {
 
     Optional<UserAuth> findByUsername(String username);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<UserAuth> findWithRolesByUserId(String userId);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<UserAuth> findWithRolesByEmail(String email);
+
+    Optional<UserAuthOtpView> findOtpViewByUserId(String userId);
+    Optional<UserAuthOtpView> findOtpViewByEmail(String email);
+
+    @Query("SELECT u.username FROM UserAuth u WHERE u.username IN :usernames")
+    List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
     Optional<UserAuth> findByEmail(String email);
     Optional<UserAuth> findByMobile(String mobile);
 
-    @Query("SELECT u FROM UserAuth u WHERE LOWER(u.email) = LOWER(:entrypoint) OR LOWER(u.username) = LOWER(:entrypoint) OR LOWER(u.mobile) = LOWER(:entrypoint)")
-    Optional<UserAuth> findByEmailOrUsernameOrMobile(String entrypoint);
+    @EntityGraph(attributePaths = "roles")
+    @Query("SELECT u FROM UserAuth u WHERE LOWER(u.email) = :email")
+    Optional<UserAuth> findByLowerEmail(@Param("email") String email);
+
+    @EntityGraph(attributePaths = "roles")
+    @Query("SELECT u FROM UserAuth u WHERE LOWER(u.username) = :username")
+    Optional<UserAuth> findByLowerUsername(@Param("username") String username);
+
+    @EntityGraph(attributePaths = "roles")
+    @Query("SELECT u FROM UserAuth u WHERE LOWER(u.mobile) = :mobile")
+    Optional<UserAuth> findByLowerMobile(@Param("mobile") String mobile);
+
+    /**
+     * Case-insensitive lookup of a login entrypoint on the single column its type points to, so the
+     * query can use the matching lower() expression index. Usernames may be all digits, so an
+     * entrypoint that parses as a mobile number falls back to the username column.
+     */
+    default Optional<UserAuth> findByEntrypoint(String entrypoint, EntrypointType entrypointType) {
+        String value = entrypoint.toLowerCase(Locale.ROOT);
+        return switch (entrypointType) {
+            case email -> findByLowerEmail(value);
+            case username -> findByLowerUsername(value);
+            case mobile -> findByLowerMobile(value).or(() -> findByLowerUsername(value));
+        };
+    }
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserAuth u SET u.password = :password WHERE u.userId = :userId AND u.password = :currentPassword")
+    int updatePassword(@Param("userId") String userId, @Param("currentPassword") String currentPassword, @Param("password") String password);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserAuth u SET u.isEnabled = true, u.dateUpdated = :dateUpdated WHERE u.userId = :userId AND (u.isEnabled IS NULL OR u.isEnabled = false)")
+    int enableUser(@Param("userId") String userId, @Param("dateUpdated") Date dateUpdated);
 }
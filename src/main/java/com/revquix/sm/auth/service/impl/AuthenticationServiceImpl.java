@@ -37,6 +37,7 @@ import com.revquix.sm.application.exception.AuthenticationException;
 import com.revquix.sm.auth.model.UserAuth;
 import com.revquix.sm.auth.payload.record.LoginCredentials;
 import com.revquix.sm.auth.payload.record.LoginPrincipal;
+import com.revquix.sm.auth.payload.record.RefreshTokenAuthentication;
 import com.revquix.sm.auth.payload.record.SSOAuthenticationPayload;
 import com.revquix.sm.auth.payload.request.AuthenticateRequest;
 import com.revquix.sm.auth.payload.request.FacebookOauthRequest;
@@ -136,9 +137,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (Objects.isNull(cookies)) throw new AuthenticationException(ErrorData.NOT_LOGGED_IN);
         String refreshToken = CookieUtils.getCookie(httpServletRequest, cookieName)
                 .orElseThrow(() -> new AuthenticationException(ErrorData.NOT_LOGGED_IN)).getValue();
-        UsernamePasswordAuthenticationToken authentication = refreshTokenAuthenticateHelper.getAuthentication(refreshToken, httpServletRequest);
+        RefreshTokenAuthentication refreshTokenAuthentication = refreshTokenAuthenticateHelper.getAuthentication(refreshToken, httpServletRequest);
+        UsernamePasswordAuthenticationToken authentication = refreshTokenAuthentication.authentication();
         authenticateValidator.validateOrigins(authentication, httpServletRequest);
-        AuthResponse authResponse = authResponseGenerator.generateAuthResponse(authentication, httpServletRequest);
+        AuthResponse authResponse = authResponseGenerator.generateRotatedAuthResponse(authentication, httpServletRequest, refreshTokenAuthentication.jti());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         return ResponseEntity.accepted().header(HttpHeaders.SET_COOKIE, authResponse.getRefreshTokenCookie().toString()).body(authResponse);
     }
@@ -196,7 +198,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     /**
-     * Logs out the user by invalidating the refresh token and clearing the refresh token cookie.
+     * Logs out the user by invalidating the refresh token, revoking the bearer access token
+     * and clearing the refresh token cookie.
      *
      * @param httpServletRequest  The HTTP request object.
      * @param httpServletResponse The HTTP response object.
@@ -208,7 +211,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (Objects.isNull(cookies)) throw new AuthenticationException(ErrorData.NOT_LOGGED_IN);
         String cookieName = authenticationProperties.getJwt().getTokenData().getRefreshTokenCookieName();
         Optional<Cookie> refreshTokenCookie = CookieUtils.getCookie(httpServletRequest, cookieName);
-        logoutUserProcessor.process(refreshTokenCookie);
+        logoutUserProcessor.process(refreshTokenCookie, httpServletRequest);
         boolean isHttpOnly = true;
         if (refreshTokenCookie.isPresent()) {
             Cookie cookie = refreshTokenCookie.get();
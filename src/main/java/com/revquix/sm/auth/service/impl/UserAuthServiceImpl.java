@@ -47,6 +47,7 @@ import com.revquix.sm.application.exception.BadRequestException;
 import com.revquix.sm.auth.model.OtpEntity;
 import com.revquix.sm.auth.model.UserAuth;
 import com.revquix.sm.application.payload.ModuleResponse;
+import com.revquix.sm.auth.payload.record.UserAuthOtpView;
 import com.revquix.sm.auth.payload.request.ForgotPasswordRequest;
 import com.revquix.sm.auth.payload.request.RegisterRequest;
 import com.revquix.sm.auth.service.UserAuthService;
@@ -98,14 +99,14 @@ public class UserAuthServiceImpl implements UserAuthService {
     public ResponseEntity<ModuleResponse> registerUser(RegisterRequest registerRequest) {
         log.info("UserAuthServiceImpl::registerUser -> Register Request : {}", registerRequest.getEmail());
         registerUserValidator.validate(registerRequest);
-        Optional<UserAuth> userAuthOptional = userAuthRepository.findByEmail(registerRequest.getEmail().toLowerCase());
+        Optional<UserAuthOtpView> userAuthOptional = userAuthRepository.findOtpViewByEmail(registerRequest.getEmail().toLowerCase());
         if (userAuthOptional.isPresent()) {
-            UserAuth userAuth = userAuthOptional.get();
-            if (Boolean.TRUE.equals(userAuth.getIsEnabled())) {
+            UserAuthOtpView userAuth = userAuthOptional.get();
+            if (Boolean.TRUE.equals(userAuth.isEnabled())) {
                 throw new BadRequestException(ErrorData.USER_ALREADY_REGISTERED);
             } else {
                 log.info("{} >> registerUser -> Deleting User Auth Data as user not enabled and getting new request for register", getClass().getSimpleName());
-                userAuthRepository.delete(userAuth);
+                userAuthRepository.deleteById(userAuth.userId());
             }
         }
         UserAuth userAuth = registerRequestToUserAuthTransformer.transform(registerRequest);
@@ -139,14 +140,12 @@ public class UserAuthServiceImpl implements UserAuthService {
         Date now = new Date();
         if (otpEntity.getExpiryDate().before(now))
             throw new BadRequestException(ErrorData.OTP_EXPIRED);
-        UserAuth userEntity = userAuthRepository.findById(userId)
+        UserAuthOtpView userEntity = userAuthRepository.findOtpViewByUserId(userId)
                 .orElseThrow(() -> new BadRequestException(ErrorData.USER_NOT_FOUND_ID));
-        if (Boolean.TRUE.equals(userEntity.getIsEnabled()))
+        if (Boolean.TRUE.equals(userEntity.isEnabled()) || userAuthRepository.enableUser(userId, now) == 0)
             throw new BadRequestException(ErrorData.USER_ALREADY_ENABLED);
-        userEntity.setIsEnabled(Boolean.TRUE);
-        userEntity.setDateUpdated(now);
-        UserAuth userAuth = userAuthRepository.save(userEntity);
-        log.info("User Auth saved to Database : {}", userAuth);
+        UserAuthOtpView userAuth = new UserAuthOtpView(userEntity.userId(), userEntity.email(), Boolean.TRUE);
+        log.info("User Auth enabled in Database : {}", userAuth);
         otpEntity.setDateUpdated(now);
         otpEntity.setOtpStatus(OtpStatus.DELETED);
         OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
@@ -176,9 +175,9 @@ public class UserAuthServiceImpl implements UserAuthService {
                 OtpFor.REGISTER,
                 OtpStatus.ACTIVE
         ).orElseThrow(() -> new BadRequestException(ErrorData.NO_OTP_PRESENT_FOR_RESEND));
-        UserAuth userEntity = userAuthRepository.findById(userId)
+        UserAuthOtpView userEntity = userAuthRepository.findOtpViewByUserId(userId)
                 .orElseThrow(() -> new BadRequestException(ErrorData.USER_NOT_FOUND_ID));
-        if (Boolean.TRUE.equals(userEntity.getIsEnabled())) {
+        if (Boolean.TRUE.equals(userEntity.isEnabled())) {
             otpEntity.setDateUpdated(now);
             otpEntity.setOtpStatus(OtpStatus.DELETED);
             OtpEntity otpEntityResponse = otpEntityRepository.save(otpEntity);
@@ -207,15 +206,15 @@ public class UserAuthServiceImpl implements UserAuthService {
      */
     @Override
     public ResponseEntity<ModuleResponse> forgotPasswordOtp(String email) {
-        UserAuth userAuth = userAuthRepository.findByEmail(email)
+        UserAuthOtpView userAuth = userAuthRepository.findOtpViewByEmail(email)
                 .orElseThrow(() -> new BadRequestException(ErrorData.USER_NOT_FOUND_EMAIL));
-        if (Boolean.FALSE.equals(userAuth.getIsEnabled()))
+        if (Boolean.FALSE.equals(userAuth.isEnabled()))
             throw new BadRequestException(ErrorData.USER_NOT_ENABLED);
         applicationEventPublisher.publishEvent(new ForgotPasswordOtpEvent(userAuth));
         return ResponseEntity.ok(
                 ModuleResponse
                         .builder()
-                        .userId(userAuth.getUserId())
+                        .userId(userAuth.userId())
                         .message("OTP Sent for Forgot Password")
                         .build()
         );
@@ -276,7 +275,7 @@ public class UserAuthServiceImpl implements UserAuthService {
                 OtpFor.FORGOT_PASSWORD,
                 OtpStatus.ACTIVE
         ).orElseThrow(() -> new BadRequestException(ErrorData.NO_OTP_PRESENT_FOR_RESEND));
-        UserAuth userAuth = userAuthRepository.findById(userId)
+        UserAuthOtpView userAuth = userAuthRepository.findOtpViewByUserId(userId)
                 .orElseThrow(() -> new BadRequestException(ErrorData.USER_NOT_FOUND_ID));
         otpEntity.setDateUpdated(now);
         otpEntity.setOtpStatus(OtpStatus.RESEND);
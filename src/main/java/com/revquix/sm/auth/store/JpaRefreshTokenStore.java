@@ -0,0 +1,79 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.store;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: JpaRefreshTokenStore
+ */
+
+import com.revquix.sm.auth.model.RefreshToken;
+import com.revquix.sm.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JpaRefreshTokenStore keeps refresh tokens in the Postgres refresh token table.
+ * Redeeming a token is a single conditional delete, so two concurrent refreshes
+ * with the same token cannot both succeed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bloggios-auth.jwt.token-store", name = "type", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        RefreshToken refreshTokenResponse = refreshTokenRepository.save(refreshToken);
+        log.info("{} >> save -> refreshTokenId: {}, jti: {}", getClass().getSimpleName(), refreshTokenResponse.getRefreshTokenId(), refreshTokenResponse.getJti());
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String jti, RefreshToken replacement) {
+        log.info("{} >> rotate -> jti: {}, replacement: {}", getClass().getSimpleName(), jti, replacement.getJti());
+        if (refreshTokenRepository.deleteByJti(jti) == 0) return false;
+        refreshTokenRepository.save(replacement);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String jti) {
+        int deleted = refreshTokenRepository.deleteByJti(jti);
+        if (deleted == 0) log.warn("{} >> revoke -> Refresh Token data is already empty", getClass().getSimpleName());
+    }
+}
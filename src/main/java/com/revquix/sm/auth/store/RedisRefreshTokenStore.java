@@ -0,0 +1,130 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.store;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RedisRefreshTokenStore
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.revquix.sm.application.exception.ErrorData;
+import com.revquix.sm.application.exception.InternalServerException;
+import com.revquix.sm.auth.enums.RefreshTokenStatus;
+import com.revquix.sm.auth.model.RefreshToken;
+import com.revquix.sm.auth.properties.AuthenticationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * RedisRefreshTokenStore keeps refresh tokens in Redis as JSON values keyed by jti, with a native
+ * key TTL equal to the refresh token expiry. Rotation runs as a Lua script that checks, deletes the
+ * redeemed token and stores its replacement in a single atomic round trip. When auditing is enabled
+ * the lifecycle is also recorded in Postgres through the RefreshTokenAuditSink.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bloggios-auth.jwt.token-store", name = "type", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh-token:";
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            if redis.call('DEL', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuthenticationProperties authenticationProperties;
+    private final RefreshTokenAuditSink refreshTokenAuditSink;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        log.info("{} >> save -> jti: {}", getClass().getSimpleName(), refreshToken.getJti());
+        stringRedisTemplate.opsForValue().set(key(refreshToken.getJti()), serialize(refreshToken), timeToLive());
+        if (isAuditEnabled()) refreshTokenAuditSink.recordIssued(refreshToken);
+    }
+
+    @Override
+    public boolean rotate(String jti, RefreshToken replacement) {
+        log.info("{} >> rotate -> jti: {}, replacement: {}", getClass().getSimpleName(), jti, replacement.getJti());
+        Long rotated = stringRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(key(jti), key(replacement.getJti())),
+                serialize(replacement),
+                String.valueOf(timeToLive().toMillis())
+        );
+        if (rotated == null || rotated == 0L) return false;
+        if (isAuditEnabled()) {
+            refreshTokenAuditSink.recordStatus(jti, RefreshTokenStatus.ROTATED);
+            refreshTokenAuditSink.recordIssued(replacement);
+        }
+        return true;
+    }
+
+    @Override
+    public void revoke(String jti) {
+        Boolean deleted = stringRedisTemplate.delete(key(jti));
+        if (!Boolean.TRUE.equals(deleted)) log.warn("{} >> revoke -> Refresh Token data is already empty", getClass().getSimpleName());
+        else if (isAuditEnabled()) refreshTokenAuditSink.recordStatus(jti, RefreshTokenStatus.REVOKED);
+    }
+
+    private String serialize(RefreshToken refreshToken) {
+        try {
+            return objectMapper.writeValueAsString(refreshToken);
+        } catch (JsonProcessingException exception) {
+            throw new InternalServerException(ErrorData.REFRESH_TOKEN_EXCEPTION, exception);
+        }
+    }
+
+    private Duration timeToLive() {
+        return Duration.ofDays(authenticationProperties.getJwt().getTokenData().getRefreshTokenExpiryDays());
+    }
+
+    private boolean isAuditEnabled() {
+        return authenticationProperties.getJwt().getTokenStore().isAuditEnabled();
+    }
+
+    private static String key(String jti) {
+        return KEY_PREFIX + jti;
+    }
+}
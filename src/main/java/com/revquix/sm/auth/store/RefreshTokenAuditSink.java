@@ -0,0 +1,129 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.store;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RefreshTokenAuditSink
+ */
+
+import com.revquix.sm.auth.enums.RefreshTokenStatus;
+import com.revquix.sm.auth.model.RefreshToken;
+import com.revquix.sm.auth.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RefreshTokenAuditSink records the refresh token lifecycle in Postgres when tokens are served
+ * from Redis. Writes run on background lanes so the refresh path never waits on Postgres;
+ * rows are kept with their final status instead of being deleted. Every write for a jti goes to
+ * the same single-threaded lane, so a status update can never overtake the insert of its token.
+ * A full lane blocks the caller instead of running the write out of order.
+ */
+@Component
+@Slf4j
+public class RefreshTokenAuditSink {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor[] lanes;
+    private final Duration shutdownTimeout;
+
+    public RefreshTokenAuditSink(RefreshTokenRepository refreshTokenRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${refresh-token.audit.lanes:4}") int laneCount,
+                                 @Value("${refresh-token.audit.lane-capacity:1000}") int laneCapacity,
+                                 @Value("${refresh-token.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shutdownTimeout = shutdownTimeout;
+        this.lanes = new ThreadPoolExecutor[Math.max(1, laneCount)];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(laneCapacity),
+                    Thread.ofPlatform().daemon().name("refresh-token-audit-" + lane).factory(),
+                    RefreshTokenAuditSink::enqueueBlocking);
+        }
+    }
+
+    public void recordIssued(RefreshToken refreshToken) {
+        submit(refreshToken.getJti(), () -> {
+            log.info("{} >> recordIssued -> jti: {}", getClass().getSimpleName(), refreshToken.getJti());
+            transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.save(refreshToken));
+        });
+    }
+
+    public void recordStatus(String jti, RefreshTokenStatus refreshTokenStatus) {
+        submit(jti, () -> {
+            log.info("{} >> recordStatus -> jti: {}, status: {}", getClass().getSimpleName(), jti, refreshTokenStatus);
+            Integer updated = transactionTemplate.execute(status -> refreshTokenRepository.updateStatusByJti(jti, refreshTokenStatus));
+            if (updated == null || updated == 0)
+                log.warn("{} >> recordStatus -> No audit row for jti: {}, status {} not recorded", getClass().getSimpleName(), jti, refreshTokenStatus);
+        });
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        log.info("{} >> destroy -> Draining refresh token audit lanes", getClass().getSimpleName());
+        for (ExecutorService lane : lanes) lane.shutdown();
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (ExecutorService lane : lanes) lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void submit(String jti, Runnable write) {
+        lanes[Math.floorMod(jti.hashCode(), lanes.length)].execute(() -> {
+            try {
+                write.run();
+            } catch (RuntimeException exception) {
+                log.error("Error -> {} >> submit -> Failed to record refresh token audit for jti: {}", RefreshTokenAuditSink.class.getSimpleName(), jti, exception);
+            }
+        });
+    }
+
+    private static void enqueueBlocking(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) throw new RejectedExecutionException("Refresh token audit sink is shut down");
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the refresh token audit lane", exception);
+        }
+    }
+}
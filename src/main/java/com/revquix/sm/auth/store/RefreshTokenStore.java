@@ -0,0 +1,68 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.store;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RefreshTokenStore
+ */
+
+import com.revquix.sm.auth.model.RefreshToken;
+
+/**
+ * RefreshTokenStore keeps the issued refresh tokens that are still redeemable, keyed by jti.
+ * The implementation is selected with bloggios-auth.jwt.token-store.type.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Stores a newly issued refresh token until its expiry date.
+     *
+     * @param refreshToken The refresh token to store.
+     */
+    void save(RefreshToken refreshToken);
+
+    /**
+     * Atomically redeems a refresh token and stores its replacement. The replacement is
+     * only stored when the redeemed token was still present.
+     *
+     * @param jti         The jti of the refresh token being redeemed.
+     * @param replacement The refresh token issued in its place.
+     * @return true if the token was redeemed, false if it was unknown, expired or already used.
+     */
+    boolean rotate(String jti, RefreshToken replacement);
+
+    /**
+     * Removes a refresh token so it can no longer be redeemed.
+     *
+     * @param jti The jti of the refresh token to revoke.
+     */
+    void revoke(String jti);
+}
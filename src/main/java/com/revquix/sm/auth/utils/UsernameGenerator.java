@@ -27,16 +27,26 @@
  */
 package com.revquix.sm.auth.utils;
 
-import com.revquix.sm.application.utils.RandomGenerator;
-import com.revquix.sm.auth.repository.UserAuthRepository;
+import com.revquix.sm.application.constants.ModelConstants;
 import com.revquix.sm.application.exception.ErrorData;
 import com.revquix.sm.application.exception.InternalServerException;
-import com.revquix.sm.auth.model.UserAuth;
-import lombok.RequiredArgsConstructor;
+import com.revquix.sm.application.utils.BloomFilter;
+import com.revquix.sm.auth.repository.UserAuthRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Developer: Rohit Parihar
@@ -47,62 +57,122 @@ import java.util.Optional;
 
 /**
  * Utility class for generating unique usernames based on email addresses.
- * This class ensures that the generated username does not conflict with existing usernames
- * in the system by appending random characters if necessary.
+ * A set of candidates is built up front, random candidates that an in-memory Bloom filter already knows
+ * to be taken are skipped, and the remaining candidates are checked against the database in a single query.
+ * The Bloom filter is loaded with the existing usernames at startup and learns every username this
+ * instance sees taken or hands out, so it only ever narrows the random candidates; the plain username is
+ * always checked against the database, so a false positive never costs a user their own name.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UsernameGenerator {
 
+    private static final String SELECT_USERNAMES = "SELECT username FROM " + ModelConstants.AUTH_SCHEMA + "." + ModelConstants.USER_AUTH;
+    private static final String DIGITS = "0123456789";
+    private static final String ALPHANUMERIC = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final String ALPHANUMERIC_SYMBOLS = "0123456789abcdefghijklmnopqrstuvwxyz-_";
+    private static final int CANDIDATES = 16;
+    private static final int MAX_CANDIDATE_ATTEMPTS = 64;
+    private static final int FETCH_SIZE = 1000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final UserAuthRepository userAuthRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BloomFilter takenUsernames;
+
+    public UsernameGenerator(UserAuthRepository userAuthRepository,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${username-generator.expected-insertions:1000000}") long expectedInsertions,
+                             @Value("${username-generator.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.userAuthRepository = userAuthRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.takenUsernames = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * Loads the existing usernames into the Bloom filter on a background thread. Until it finishes
+     * the filter simply skips fewer candidates.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTakenUsernames() {
+        Thread.ofVirtual().name("username-filter-loader").start(() -> {
+            try {
+                long[] count = {0};
+                // the Postgres driver only streams with a fetch size inside a transaction
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_USERNAMES);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, resultSet -> {
+                    String username = resultSet.getString(1);
+                    if (username != null) takenUsernames.put(username.toLowerCase(Locale.ROOT));
+                    count[0]++;
+                }));
+                log.info("{} >> loadTakenUsernames -> Username filter loaded with {} usernames", getClass().getSimpleName(), count[0]);
+            } catch (RuntimeException exception) {
+                log.error("Error -> {} >> loadTakenUsernames -> Failed to load usernames into the filter", getClass().getSimpleName(), exception);
+            }
+        });
+    }
 
     /**
      * Generates a unique username based on the provided email address.
      * The username is derived from the prefix of the email (before the '@' symbol)
-     * and is sanitized to remove special characters. If the initial username
-     * already exists, random characters are appended until a unique username is found.
+     * and is sanitized to remove special characters. If that username is taken,
+     * the first free candidate with a random suffix is used, with suffixes growing
+     * longer along the candidate list.
      *
      * @param email The email address to base the username on.
      * @return A unique username.
-     * @throws InternalServerException if unable to generate a unique username after several attempts.
+     * @throws InternalServerException if every candidate is already taken.
      */
     public String generate(String email) {
         log.info("Generating Username for reference email : {}", email);
         int atIndex = email.lastIndexOf("@");
         String prefixData = email.substring(0, atIndex);
-        String initialData = removeSpecialCharacters(prefixData);
-        boolean isPresent = true;
-        String username = initialData;
-        Optional<UserAuth> byUsername = userAuthRepository.findByUsername(username);
-        if (byUsername.isEmpty()) {
-            isPresent = false;
+        String initialData = removeSpecialCharacters(prefixData).toLowerCase(Locale.ROOT);
+
+        List<String> candidates = candidates(initialData);
+        Set<String> taken = new HashSet<>(userAuthRepository.findUsernamesIn(candidates));
+        taken.forEach(takenUsernames::put);
+        for (String candidate : candidates) {
+            if (taken.contains(candidate)) continue;
+            takenUsernames.put(candidate);
+            if (!candidate.equals(initialData)) log.warn("Username Generator -> {} is taken, using {}", initialData, candidate);
+            return candidate;
         }
+        throw new InternalServerException(ErrorData.UNABLE_TO_GENERATE_USERNAME);
+    }
 
-        int round = 0;
-        while (isPresent) {
-            if (round == 7) throw new InternalServerException(ErrorData.UNABLE_TO_GENERATE_USERNAME);
-            if (round == 0) {
-                log.warn("Username Generator (Round 0)");
-                String characters = "0123456789";
-                username = username + RandomGenerator.generateRandomString(characters, 1);
-            } else if (round == 1) {
-                log.warn("Username Generator (Round 1)");
-                String characters = "0123456789abcdefghijklmnopqrstuvwxyz";
-                username = username + RandomGenerator.generateRandomString(characters, 2);
-            } else if (round >= 2) {
-                log.warn("Username Generator (Round {})", round);
-                String characters = "0123456789abcdefghijklmnopqrstuvwxyz-_";
-                username = username + RandomGenerator.generateRandomString(characters, round*2);
-            }
-            Optional<UserAuth> userDocumentOptional = userAuthRepository.findByUsername(username);
-            if (userDocumentOptional.isEmpty()) {
-                isPresent = false;
-            } else {
-                round++;
-            }
+    /*
+     * The plain username first, then random suffixes of 2 digits, 4 alphanumerics and 6 alphanumerics
+     * or symbols. Random candidates the filter already knows to be taken are skipped; the plain username
+     * is never pruned, since a false positive would hand the user a suffixed name for no reason.
+     */
+    private List<String> candidates(String initialData) {
+        Set<String> candidates = new LinkedHashSet<>();
+        if (!initialData.isEmpty()) candidates.add(initialData);
+        for (int attempt = 0; attempt < MAX_CANDIDATE_ATTEMPTS && candidates.size() < CANDIDATES; attempt++) {
+            String candidate = switch (attempt * 3 / MAX_CANDIDATE_ATTEMPTS) {
+                case 0 -> initialData + randomString(DIGITS, 2);
+                case 1 -> initialData + randomString(ALPHANUMERIC, 4);
+                default -> initialData + randomString(ALPHANUMERIC_SYMBOLS, 6);
+            };
+            if (!takenUsernames.mightContain(candidate)) candidates.add(candidate);
+        }
+        if (candidates.isEmpty()) candidates.add(initialData + randomString(ALPHANUMERIC_SYMBOLS, 8));
+        return List.copyOf(candidates);
+    }
+
+    private static String randomString(String characters, int length) {
+        StringBuilder randomString = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            randomString.append(characters.charAt(RANDOM.nextInt(characters.length())));
         }
-        return username;
+        return randomString.toString();
     }
 
     /**
@@ -0,0 +1,78 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.mail.executor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: RegistrationOtpMailDispatcher
+ */
+
+import com.revquix.sm.auth.enums.OtpStatus;
+import com.revquix.sm.auth.model.OtpEntity;
+import com.revquix.sm.auth.repository.OtpEntityRepository;
+import com.revquix.sm.mail.enums.MailType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sends the registration OTP mail for the OTP an outbox row points to, both for the first mail and
+ * for a resend. OTPs that were used, expired or replaced before the row was dispatched are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationOtpMailDispatcher implements MailDispatcher {
+
+    private static final Set<OtpStatus> SENDABLE_STATUSES = EnumSet.of(OtpStatus.ACTIVE, OtpStatus.RESEND);
+
+    private final OtpEntityRepository otpEntityRepository;
+    private final SendRegistrationOtpMail sendRegistrationOtpMail;
+
+    @Override
+    public MailType mailType() {
+        return MailType.REGISTRATION_OTP;
+    }
+
+    @Override
+    public void dispatch(String aggregateId) {
+        Optional<OtpEntity> otpEntityOptional = otpEntityRepository.findByOtpId(UUID.fromString(aggregateId));
+        if (otpEntityOptional.isEmpty() || !SENDABLE_STATUSES.contains(otpEntityOptional.get().getOtpStatus())) {
+            log.info("{} >> dispatch -> OTP {} is no longer active, skipping mail", getClass().getSimpleName(), aggregateId);
+            return;
+        }
+        sendRegistrationOtpMail.execute(otpEntityOptional.get());
+    }
+}
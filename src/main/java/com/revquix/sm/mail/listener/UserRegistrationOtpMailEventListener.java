@@ -34,19 +34,20 @@ package com.revquix.sm.mail.listener;
   File: UserRegistrationOtpMailEventListener
  */
 
-import com.revquix.sm.application.constants.ServiceConstants;
 import com.revquix.sm.auth.events.UserRegistrationOtpMailEvent;
 import com.revquix.sm.mail.processor.SendRegistrationOtpMailProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Objects;
 
+/**
+ * Issues the registration OTP and writes its mail to the outbox before the registration commits, so
+ * the user, the OTP and the pending mail are stored together or not at all. MailOutboxPoller sends it.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -54,20 +55,13 @@ public class UserRegistrationOtpMailEventListener {
 
     private final SendRegistrationOtpMailProcessor sendRegistrationOtpMailProcessor;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("eventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onEvent(UserRegistrationOtpMailEvent userRegistrationOtpEvent) {
         if (Objects.isNull(userRegistrationOtpEvent)) {
             log.warn("UserRegistrationOtpMailEventListener::onEvent -> Received null event, skipping processing.");
             return;
         }
-        String breadcrumbId = userRegistrationOtpEvent.getBreadcrumbId();
-        try {
-            log.info("UserRegistrationOtpMailEventListener::onEvent -> UserRegistrationOtpMailEvent : {}, breadcrumbId: {}", userRegistrationOtpEvent.getUserAuth(), breadcrumbId);
-            MDC.put(ServiceConstants.BREADCRUMB_ID, breadcrumbId);
-            sendRegistrationOtpMailProcessor.process(userRegistrationOtpEvent.getUserAuth());
-        } finally {
-            MDC.clear();
-        }
+        log.info("UserRegistrationOtpMailEventListener::onEvent -> UserRegistrationOtpMailEvent : {}, breadcrumbId: {}", userRegistrationOtpEvent.getUserAuth(), userRegistrationOtpEvent.getBreadcrumbId());
+        sendRegistrationOtpMailProcessor.process(userRegistrationOtpEvent.getUserAuth());
     }
 }
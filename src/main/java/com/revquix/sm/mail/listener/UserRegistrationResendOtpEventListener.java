@@ -0,0 +1,68 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.mail.listener;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: UserRegistrationResendOtpEventListener
+ */
+
+import com.revquix.sm.auth.events.UserRegistrationResendOtpEvent;
+import com.revquix.sm.mail.enums.MailType;
+import com.revquix.sm.mail.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Writes the resent registration OTP mail to the outbox before the resend commits. It reuses the
+ * registration OTP mail, so it is queued as a REGISTRATION_OTP entry for the same OTP.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserRegistrationResendOtpEventListener {
+
+    private final MailOutboxService mailOutboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEvent(UserRegistrationResendOtpEvent userRegistrationResendOtpEvent) {
+        if (Objects.isNull(userRegistrationResendOtpEvent) || Objects.isNull(userRegistrationResendOtpEvent.getOtpEntity())) {
+            log.warn("UserRegistrationResendOtpEventListener::onEvent -> Received event without an OTP, skipping processing.");
+            return;
+        }
+        log.info("UserRegistrationResendOtpEventListener::onEvent -> Queueing registration OTP resend for userId: {}", userRegistrationResendOtpEvent.getUserAuth().userId());
+        mailOutboxService.enqueue(MailType.REGISTRATION_OTP, userRegistrationResendOtpEvent.getOtpEntity().getOtpId().toString());
+    }
+}
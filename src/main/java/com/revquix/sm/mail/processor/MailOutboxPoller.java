@@ -0,0 +1,271 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.mail.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: MailOutboxPoller
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.application.constants.ServiceConstants;
+import com.revquix.sm.mail.enums.MailOutboxStatus;
+import com.revquix.sm.mail.enums.MailType;
+import com.revquix.sm.mail.executor.MailDispatcher;
+import com.revquix.sm.mail.payload.MailOutboxEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MailOutboxPoller sends the mails written to the outbox table. Every node polls: a batch is claimed
+ * with a single UPDATE over a FOR UPDATE SKIP LOCKED subquery, so concurrent pollers never claim the
+ * same row, and a claimed row is leased until lockedUntil. The pool does not auto-commit, so the claim
+ * and every settle run in their own short transaction. The batch is dispatched concurrently outside
+ * any transaction. A sent row is deleted; a failed row is rescheduled with exponential backoff until it
+ * runs out of attempts and is dead-lettered. A row whose node died mid-send is claimed again once its
+ * lease expires, so delivery is at least once.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mail-outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class MailOutboxPoller {
+
+    private static final String TABLE = ModelConstants.AUTH_SCHEMA + "." + ModelConstants.MAIL_OUTBOX_TABLE;
+    private static final String CLAIM_BATCH = "UPDATE " + TABLE + " SET status = ?, attempts = attempts + 1, locked_until = ?, date_updated = ?" +
+            " WHERE outbox_id IN (SELECT outbox_id FROM " + TABLE +
+            " WHERE (status = ? AND next_attempt_at <= ?) OR (status = ? AND locked_until <= ? AND attempts < ?)" +
+            " ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED)" +
+            " RETURNING outbox_id, mail_type, aggregate_id, breadcrumb_id, attempts";
+    private static final String DEAD_LETTER_ABANDONED = "UPDATE " + TABLE + " SET status = ?, locked_until = NULL, last_error = ?, date_updated = ?" +
+            " WHERE status = ? AND locked_until <= ? AND attempts >= ?";
+    private static final String DELETE_SENT = "DELETE FROM " + TABLE + " WHERE outbox_id = ? AND attempts = ?";
+    private static final String RESCHEDULE_FAILED = "UPDATE " + TABLE + " SET status = ?, next_attempt_at = ?, locked_until = NULL, last_error = ?, date_updated = ?" +
+            " WHERE outbox_id = ? AND attempts = ?";
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<MailType, MailDispatcher> dispatchers = new EnumMap<>(MailType.class);
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private volatile boolean running;
+    private Thread poller;
+
+    public MailOutboxPoller(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            List<MailDispatcher> mailDispatchers,
+                            MeterRegistry meterRegistry,
+                            @Value("${mail-outbox.poll-interval:PT1S}") Duration pollInterval,
+                            @Value("${mail-outbox.batch-size:20}") int batchSize,
+                            @Value("${mail-outbox.lease:PT5M}") Duration lease,
+                            @Value("${mail-outbox.max-attempts:8}") int maxAttempts,
+                            @Value("${mail-outbox.retry-backoff:PT30S}") Duration retryBackoff,
+                            @Value("${mail-outbox.max-retry-backoff:PT1H}") Duration maxRetryBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        mailDispatchers.forEach(mailDispatcher -> dispatchers.put(mailDispatcher.mailType(), mailDispatcher));
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.sentCounter = Counter.builder("mail.outbox.sent").description("Outbox mails sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.outbox.retried").description("Outbox mails rescheduled after a failed attempt").register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.outbox.dead").description("Outbox mails dead-lettered after their last attempt").register(meterRegistry);
+    }
+
+    /**
+     * Starts the poller thread, which claims and dispatches batches until the outbox has nothing due
+     * and then waits for the next poll.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("{} >> start -> Starting mail outbox poller, pollInterval: {}, batchSize: {}", getClass().getSimpleName(), pollInterval, batchSize);
+        running = true;
+        poller = Thread.ofPlatform().daemon().name("mail-outbox-poller").start(this::run);
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        log.info("{} >> destroy -> Stopping mail outbox poller", getClass().getSimpleName());
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            poller.join(pollInterval.toMillis() * 2);
+        }
+        dispatchExecutor.shutdownNow();
+    }
+
+    /*
+     * Runs on its own thread rather than the shared @Scheduled pool, since a batch can wait on the
+     * mail API for as long as its timeout and would otherwise stall the other scheduled jobs.
+     */
+    private void run() {
+        while (running) {
+            poll();
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void poll() {
+        try {
+            deadLetterAbandoned();
+            List<MailOutboxEntry> batch;
+            do {
+                batch = claimBatch();
+                if (!batch.isEmpty()) dispatch(batch);
+            } while (running && batch.size() == batchSize);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException exception) {
+            log.error("Error -> {} >> poll -> Failed to poll the mail outbox", getClass().getSimpleName(), exception);
+        }
+    }
+
+    private List<MailOutboxEntry> claimBatch() {
+        Instant now = Instant.now();
+        return transactionTemplate.execute(status -> jdbcTemplate.query(CLAIM_BATCH,
+                (resultSet, rowNum) -> new MailOutboxEntry(
+                        resultSet.getString("outbox_id"),
+                        resultSet.getString("mail_type"),
+                        resultSet.getString("aggregate_id"),
+                        resultSet.getString("breadcrumb_id"),
+                        resultSet.getInt("attempts")),
+                MailOutboxStatus.PROCESSING.name(), Timestamp.from(now.plus(lease)), Timestamp.from(now),
+                MailOutboxStatus.PENDING.name(), Timestamp.from(now),
+                MailOutboxStatus.PROCESSING.name(), Timestamp.from(now), maxAttempts,
+                batchSize));
+    }
+
+    /*
+     * A row whose lease expired on its last attempt would otherwise never be settled.
+     */
+    private void deadLetterAbandoned() {
+        Timestamp now = Timestamp.from(Instant.now());
+        Integer abandoned = transactionTemplate.execute(status -> jdbcTemplate.update(DEAD_LETTER_ABANDONED,
+                MailOutboxStatus.DEAD.name(), "Lease expired on the last attempt", now,
+                MailOutboxStatus.PROCESSING.name(), now, maxAttempts));
+        if (Objects.nonNull(abandoned) && abandoned > 0) {
+            deadCounter.increment(abandoned);
+            log.warn("{} >> deadLetterAbandoned -> Dead-lettered {} mails abandoned on their last attempt", getClass().getSimpleName(), abandoned);
+        }
+    }
+
+    private void dispatch(List<MailOutboxEntry> batch) throws InterruptedException {
+        log.info("{} >> dispatch -> Dispatching {} outbox mails", getClass().getSimpleName(), batch.size());
+        List<Callable<Void>> tasks = batch.stream()
+                .map(entry -> (Callable<Void>) () -> {
+                    dispatch(entry);
+                    return null;
+                })
+                .toList();
+        dispatchExecutor.invokeAll(tasks);
+    }
+
+    private void dispatch(MailOutboxEntry entry) {
+        try {
+            if (Objects.nonNull(entry.breadcrumbId())) MDC.put(ServiceConstants.BREADCRUMB_ID, entry.breadcrumbId());
+            MailDispatcher mailDispatcher = dispatchers.get(MailType.valueOf(entry.mailType()));
+            if (Objects.isNull(mailDispatcher)) throw new IllegalStateException("No dispatcher for mail type " + entry.mailType());
+            mailDispatcher.dispatch(entry.aggregateId());
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_SENT, entry.outboxId(), entry.attempts()));
+            sentCounter.increment();
+        } catch (RuntimeException exception) {
+            reschedule(entry, exception);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void reschedule(MailOutboxEntry entry, RuntimeException exception) {
+        boolean dead = entry.attempts() >= maxAttempts;
+        Instant now = Instant.now();
+        String error = String.valueOf(exception);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(RESCHEDULE_FAILED,
+                    (dead ? MailOutboxStatus.DEAD : MailOutboxStatus.PENDING).name(),
+                    Timestamp.from(now.plus(backoff(entry.attempts()))),
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                    Timestamp.from(now),
+                    entry.outboxId(),
+                    entry.attempts()));
+        } catch (RuntimeException updateException) {
+            log.error("Error -> {} >> reschedule -> Failed to reschedule outboxId: {}, it is retried once its lease expires", getClass().getSimpleName(), entry.outboxId(), updateException);
+            return;
+        }
+        if (dead) {
+            deadCounter.increment();
+            log.error("Error -> {} >> reschedule -> Dead-lettered outboxId: {}, mailType: {} after {} attempts", getClass().getSimpleName(), entry.outboxId(), entry.mailType(), entry.attempts(), exception);
+        } else {
+            retriedCounter.increment();
+            log.warn("{} >> reschedule -> Attempt {} failed for outboxId: {}, mailType: {}", getClass().getSimpleName(), entry.attempts(), entry.outboxId(), entry.mailType(), exception);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+}
@@ -41,8 +41,8 @@ import com.revquix.sm.auth.model.OtpEntity;
 import com.revquix.sm.auth.model.UserAuth;
 import com.revquix.sm.auth.repository.OtpEntityRepository;
 import com.revquix.sm.auth.utils.OtpGenerator;
-import com.revquix.sm.mail.executor.SendRegistrationOtpMail;
-import com.revquix.sm.mail.service.ZeptoMailService;
+import com.revquix.sm.mail.enums.MailType;
+import com.revquix.sm.mail.service.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -57,7 +57,7 @@ import java.util.Optional;
 public class SendRegistrationOtpMailProcessor {
 
     private final OtpEntityRepository otpEntityRepository;
-    private final SendRegistrationOtpMail sendRegistrationOtpMail;
+    private final MailOutboxService mailOutboxService;
 
     @Value("${otp.registration.time-expiration:7}")
     private int timeExpiration;
@@ -101,7 +101,7 @@ public class SendRegistrationOtpMailProcessor {
         OtpEntity newOtpEntity = buildOtpEntity(userAuth);
         OtpEntity savedOtpEntity = otpEntityRepository.save(newOtpEntity);
         log.info("SendRegistrationOtpMail::process -> New OtpEntity saved successfully for email: {}", userAuth.getEmail());
-        sendRegistrationOtpMail.execute(savedOtpEntity);
+        mailOutboxService.enqueue(MailType.REGISTRATION_OTP, savedOtpEntity.getOtpId().toString());
         if (logEnabled) log.info("SendRegistrationOtpMail::process -> New OTP details email:{}, otp:{}", savedOtpEntity.getEmail(), savedOtpEntity.getOtp());
     }
 
@@ -0,0 +1,75 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.mail.service;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: MailOutboxService
+ */
+
+import com.revquix.sm.application.constants.ModelConstants;
+import com.revquix.sm.application.utils.MdcProvider;
+import com.revquix.sm.mail.enums.MailOutboxStatus;
+import com.revquix.sm.mail.enums.MailType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Writes mails to the outbox table. The row joins the caller's transaction, so the mail is recorded
+ * exactly when the change that triggers it commits, and MailOutboxPoller sends it afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxService {
+
+    private static final String INSERT_OUTBOX = "INSERT INTO " + ModelConstants.AUTH_SCHEMA + "." + ModelConstants.MAIL_OUTBOX_TABLE +
+            " (outbox_id, mail_type, aggregate_id, breadcrumb_id, status, attempts, next_attempt_at, date_created, date_updated)" +
+            " VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(MailType mailType, String aggregateId) {
+        String outboxId = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_OUTBOX, outboxId, mailType.name(), aggregateId, MdcProvider.getBreadcrumbId(),
+                MailOutboxStatus.PENDING.name(), now, now, now);
+        log.info("{} >> enqueue -> outboxId: {}, mailType: {}, aggregateId: {}", getClass().getSimpleName(), outboxId, mailType, aggregateId);
+    }
+}
@@ -0,0 +1,4 @@
+-- @RevquixId values are handed out in blocks: every nextval reserves INCREMENT BY values, which the
+-- application serves from memory (see SequenceBlockAllocator). The increment is the block size.
+-- Raising it on a sequence already in use only skips ahead; no issued value is handed out again.
+ALTER SEQUENCE auth.user_uid_sequence INCREMENT BY 50;
@@ -0,0 +1,19 @@
+-- Mails are written to the outbox in the same transaction as the change that triggers them and sent
+-- by MailOutboxPoller on any node. Sent rows are deleted; rows that run out of attempts stay as DEAD.
+CREATE TABLE IF NOT EXISTS auth.mail_outbox (
+    outbox_id       VARCHAR(36)  PRIMARY KEY,
+    mail_type       VARCHAR(64)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    breadcrumb_id   VARCHAR(255),
+    status          VARCHAR(32)  NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    locked_until    TIMESTAMP(6),
+    last_error      TEXT,
+    date_created    TIMESTAMP(6) NOT NULL,
+    date_updated    TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS index_mail_outbox_pending ON auth.mail_outbox (next_attempt_at) WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS index_mail_outbox_processing ON auth.mail_outbox (locked_until) WHERE status = 'PROCESSING';
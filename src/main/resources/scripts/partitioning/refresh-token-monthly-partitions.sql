@@ -0,0 +1,79 @@
+-- Optional layout: auth.refresh_token range-partitioned by month on date_generated.
+-- This script lives outside scripts/*.sql and is not run at startup. Run it once during a
+-- maintenance window, then set refresh-token.reaper.partitioned=true. The reaper then creates
+-- the partitions for the current and next month and drops a partition once every token in it
+-- has expired, instead of deleting those rows one batch at a time.
+-- Postgres requires the partition key in every unique constraint, so the primary key includes
+-- date_generated and (jti, date_generated) only serves lookups by jti. jti uniqueness, which
+-- rotation relies on, is enforced by auth.refresh_token_jti instead: triggers keep one row per live
+-- jti under its primary key, so a duplicate insert fails. The reaper removes the lookup rows of a
+-- partition before dropping it, and InitRefreshTokenJtiProcessor refuses to start without the table.
+
+BEGIN;
+
+ALTER TABLE auth.refresh_token RENAME TO refresh_token_legacy;
+
+CREATE TABLE auth.refresh_token (
+    refresh_token_id    VARCHAR(255) NOT NULL,
+    jti                 VARCHAR(255) NOT NULL,
+    client_id           VARCHAR(255),
+    user_id             VARCHAR(255),
+    authentication_type VARCHAR(255),
+    date_generated      TIMESTAMP(6) NOT NULL,
+    expiry_date         TIMESTAMP(6),
+    refresh_token_status VARCHAR(255),
+    sso_token_data      JSONB,
+    user_login_provider VARCHAR(255),
+    PRIMARY KEY (refresh_token_id, date_generated),
+    UNIQUE (jti, date_generated)
+) PARTITION BY RANGE (date_generated);
+
+CREATE INDEX index_refreshtoken_expiryDate ON auth.refresh_token (expiry_date, refresh_token_id);
+
+CREATE TABLE auth.refresh_token_default PARTITION OF auth.refresh_token DEFAULT;
+
+CREATE TABLE auth.refresh_token_jti (
+    jti VARCHAR(255) PRIMARY KEY
+);
+
+CREATE OR REPLACE FUNCTION auth.refresh_token_jti_sync() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM auth.refresh_token_jti WHERE jti = OLD.jti;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO auth.refresh_token_jti (jti) VALUES (NEW.jti);
+    END IF;
+    RETURN NULL;
+END $$ LANGUAGE plpgsql;
+
+CREATE TRIGGER refresh_token_jti_sync
+    AFTER INSERT OR DELETE OR UPDATE OF jti ON auth.refresh_token
+    FOR EACH ROW EXECUTE FUNCTION auth.refresh_token_jti_sync();
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', coalesce((SELECT min(date_generated) FROM auth.refresh_token_legacy), now()))::DATE;
+BEGIN
+    WHILE month_start <= date_trunc('month', now() + INTERVAL '1 month')::DATE LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS auth.%I PARTITION OF auth.refresh_token FOR VALUES FROM (%L) TO (%L)',
+                'refresh_token_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+                month_start,
+                (month_start + INTERVAL '1 month')::DATE
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO auth.refresh_token (refresh_token_id, jti, client_id, user_id, authentication_type, date_generated,
+                                expiry_date, refresh_token_status, sso_token_data, user_login_provider)
+SELECT refresh_token_id, jti, client_id, user_id, authentication_type, date_generated,
+       expiry_date, refresh_token_status, sso_token_data, user_login_provider
+FROM auth.refresh_token_legacy
+WHERE date_generated IS NOT NULL
+  AND (expiry_date IS NULL OR expiry_date > now());
+
+DROP TABLE auth.refresh_token_legacy;
+
+COMMIT;
@@ -0,0 +1,128 @@
+/**
+ * Proprietary License Agreement
+ * <p>
+ * Copyright (c) 2025 Revquix
+ * <p>
+ * This software is the confidential and proprietary property of Revquix and is provided under a
+ * license, not sold. The application owner is Rohit Parihar and Revquix. Only authorized
+ * Revquix administrators are permitted to copy, modify, distribute, or sublicense this software
+ * under the terms set forth in this agreement.
+ * <p>
+ * Restrictions
+ *
+ * You are expressly prohibited from:
+ * 1. Copying, modifying, distributing, or sublicensing this software without the express
+ *    written permission of Rohit Parihar or Revquix.
+ * 2. Reverse engineering, decompiling, disassembling, or otherwise attempting to derive
+ *    the source code of the software.
+ * 3. Altering or modifying the terms of this license without prior written approval from
+ *    Rohit Parihar and Revquix administrators.
+ * <p>
+ * Disclaimer of Warranties:
+ * This software is provided "as is" without any warranties, express or implied. Revquix makes
+ * no representations or warranties regarding the software, including but not limited to any
+ * warranties of merchantability, fitness for a particular purpose, or non-infringement.
+ * <p>
+ * For inquiries regarding licensing, please contact: support@Revquix.com.
+ */
+package com.revquix.sm.auth.processor;
+
+/*
+  Developer: Rohit Parihar
+  Project: revquix-sm
+  GitHub: github.com/rohit-zip
+  File: InitUserAuthIndexProcessorTest
+ */
+
+import com.revquix.sm.application.utils.ConcurrentIndexBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds the login lookup indexes on a Postgres container and checks that the single-column lookups
+ * UserAuthRepository routes an entrypoint to are planned as index scans rather than sequential scans.
+ */
+@Testcontainers
+class InitUserAuthIndexProcessorTest {
+
+    private static final int ROWS = 20_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static PGSimpleDataSource dataSource;
+
+    @BeforeAll
+    static void createTable() throws SQLException {
+        dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUser(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS auth");
+            statement.execute("CREATE TABLE " + InitUserAuthIndexProcessor.TABLE +
+                    " (user_id VARCHAR(255) PRIMARY KEY, email VARCHAR(255), username VARCHAR(255), mobile VARCHAR(255))");
+            statement.execute("INSERT INTO " + InitUserAuthIndexProcessor.TABLE +
+                    " SELECT 'user-' || n, 'User' || n || '@Revquix.com', 'User' || n, '9' || lpad(n::TEXT, 9, '0')" +
+                    " FROM generate_series(1, " + ROWS + ") n");
+        }
+    }
+
+    @Test
+    void loginLookupsUseTheLowerIndexes() throws SQLException {
+        newProcessor().process();
+        analyze();
+        for (String column : InitUserAuthIndexProcessor.INDEXED_COLUMNS) {
+            String plan = explain("SELECT * FROM " + InitUserAuthIndexProcessor.TABLE + " WHERE lower(" + column + ") = 'user42@revquix.com'");
+            assertTrue(plan.contains(InitUserAuthIndexProcessor.indexName(column)), "Lookup on " + column + " does not use its index:\n" + plan);
+        }
+    }
+
+    @Test
+    void replicasStartingTogetherLeaveValidIndexes() throws SQLException {
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> newProcessor().process()),
+                CompletableFuture.runAsync(() -> newProcessor().process())
+        ).join();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM pg_index index_entry" +
+                     " JOIN pg_class relation ON relation.oid = index_entry.indexrelid" +
+                     " WHERE relation.relname LIKE 'index_userauth_lower_%' AND index_entry.indisvalid")) {
+            resultSet.next();
+            assertEquals(InitUserAuthIndexProcessor.INDEXED_COLUMNS.size(), resultSet.getInt(1));
+        }
+    }
+
+    private static InitUserAuthIndexProcessor newProcessor() {
+        return new InitUserAuthIndexProcessor(new ConcurrentIndexBuilder(dataSource, Duration.ofMinutes(1)));
+    }
+
+    private static void analyze() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + InitUserAuthIndexProcessor.TABLE);
+        }
+    }
+
+    private static String explain(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            while (resultSet.next()) plan.append(resultSet.getString(1)).append('\n');
+        }
+        return plan.toString();
+    }
+}